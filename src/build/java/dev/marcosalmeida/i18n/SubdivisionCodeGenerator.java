@@ -0,0 +1,483 @@
+package dev.marcosalmeida.i18n;
+
+import dev.marcosalmeida.i18n.SubdivisionSource.Row;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Build-time generator of {@link SubdivisionCode}, with one nested enum per country listed in the
+ * countries file.
+ *
+ * <p>
+ * Reads the same tab-separated {@linkplain SubdivisionSource source file} as
+ * {@link SubdivisionDatasetWriter} plus a countries file (alpha-2 code, country name and adjective
+ * per line). Each enum gets its constants in source order, with their
+ * {@linkplain SubdivisionKeys#idOf(String) ids} precomputed, the usual lookups, one listing per
+ * category and the code perfect hash of its {@link SubdivisionIndex}, which is searched for here
+ * so that class initialization only fills it in. The perfect hash of the global registry, over the
+ * codes of every country of the source file, is precomputed the same way. The other tables of the
+ * index (names, prefixes, ids, categories and parents) are still built from the constants at class
+ * initialization, which keeps the constants their single source of truth. Everything else lives
+ * in the hand-written {@link SubdivisionLookup}. Like the other build-time classes under {@code src/build/java}, it is
+ * left out of the library jar. It runs during the {@code generate-sources} phase of the Maven
+ * build, compiled on its own beforehand, so it must only depend on {@link SubdivisionSource},
+ * {@link SubdivisionKeys} and {@link SubdivisionPerfectHash}:
+ * </p>
+ * <pre>
+ * java dev.marcosalmeida.i18n.SubdivisionCodeGenerator &lt;source.tsv&gt; &lt;countries.tsv&gt; &lt;output directory&gt;
+ * </pre>
+ */
+public final class SubdivisionCodeGenerator {
+
+    private static final int LINE_LENGTH = 120;
+
+    private SubdivisionCodeGenerator() {
+        // Prevent instantiation
+    }
+
+    private record Country(String alpha2, String name, String adjective) {
+    }
+
+    /**
+     * Generates {@code SubdivisionCode.java} under the given source directory. The file is only
+     * rewritten when its content changes, so that incremental builds stay incremental.
+     *
+     * @param args the source TSV file, the countries TSV file and the output source directory.
+     * @throws IOException if reading or writing fails.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            throw new IllegalArgumentException(
+                    "Usage: SubdivisionCodeGenerator <source.tsv> <countries.tsv> <output directory>");
+        }
+        String source = generate(Files.readAllLines(Path.of(args[0]), StandardCharsets.UTF_8),
+                Files.readAllLines(Path.of(args[1]), StandardCharsets.UTF_8));
+        Path output = Path.of(args[2], "dev", "marcosalmeida", "i18n", "SubdivisionCode.java");
+        if (Files.exists(output) && Files.readString(output, StandardCharsets.UTF_8).equals(source)) {
+            return;
+        }
+        Files.createDirectories(output.getParent());
+        Files.writeString(output, source, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Generates the source of {@code SubdivisionCode}.
+     *
+     * @param subdivisionLines the lines of the source TSV file.
+     * @param countryLines     the lines of the countries TSV file.
+     * @return the Java source.
+     * @throws IllegalArgumentException if a line is malformed, a code is duplicated, a parent is
+     *                                  unknown or in another country, or a country has no subdivisions.
+     */
+    static String generate(List<String> subdivisionLines, List<String> countryLines) {
+        Map<String, List<Row>> subdivisions = SubdivisionSource.subdivisions(subdivisionLines);
+        List<Country> countries = new ArrayList<>();
+        for (String[] columns : SubdivisionSource.columns(countryLines)) {
+            if (columns.length != 3 || columns[0].length() != 2) {
+                throw new IllegalArgumentException("Malformed country line: " + String.join("\t", columns));
+            }
+            countries.add(new Country(columns[0], columns[1], columns[2]));
+        }
+        countries.sort((a, b) -> a.alpha2().compareTo(b.alpha2()));
+
+        StringBuilder out = new StringBuilder();
+        out.append("""
+                // Generated by SubdivisionCodeGenerator from src/main/data. Do not edit.
+                package dev.marcosalmeida.i18n;
+
+                import com.neovisionaries.i18n.CountryCode;
+                import java.util.List;
+                import java.util.Optional;
+
+                /**
+                 * Entry point for accessing ISO-3166-2 subdivisions.
+                 *
+                 * <p>
+                 * This class provides access to subdivisions for various countries using the syntax
+                 * {@code SubdivisionCode.COUNTRY.SUBDIVISION} (e.g., {@code SubdivisionCode.US.AL}).
+                 * </p>
+                 */
+                public final class SubdivisionCode extends SubdivisionLookup {
+
+                    private SubdivisionCode() {
+                        // Prevent instantiation
+                    }
+
+                    /**
+                     * Returns the country enums, in alphabetical order. Not a constant, so that the enums are
+                     * only loaded by the queries that span all countries.
+                     *
+                     * @return a new array of the country enums.
+                     */
+                    static Class<?>[] countries() {
+                """);
+        List<String> classes = new ArrayList<>();
+        for (Country country : countries) {
+            classes.add(country.alpha2() + ".class");
+        }
+        out.append("        return new Class<?>[] {").append(String.join(", ", classes)).append("};\n    }\n");
+        out.append("""
+
+                    /**
+                     * Returns the index of the country enum of the given country, initializing that enum only.
+                     *
+                     * @param country the country.
+                     * @return the index of the country, or {@code null} if the country has no enum.
+                     */
+                    static SubdivisionIndex<? extends Subdivision> enumIndex(CountryCode country) {
+                        return switch (country) {
+                """);
+        for (Country country : countries) {
+            out.append("            case ").append(country.alpha2()).append(" -> ").append(country.alpha2()).append(".INDEX;\n");
+        }
+        out.append("""
+                            default -> null;
+                        };
+                    }
+
+                    /**
+                     * Returns the code perfect hash of the global registry, searched for at build time over the
+                     * codes of every country, enum or dataset. Not a constant, like {@link #countries()}.
+                     *
+                     * @return the perfect hash.
+                     */
+                    static SubdivisionPerfectHash registryHash() {
+                        return
+                """);
+        List<Row> all = new ArrayList<>();
+        subdivisions.values().forEach(all::addAll);
+        appendHash(out, codeHash(all, "the global registry"));
+        out.append(";\n    }\n");
+        for (Country country : countries) {
+            List<Row> rows = subdivisions.get(country.alpha2());
+            if (rows == null) {
+                throw new IllegalArgumentException("No subdivisions for country: " + country.alpha2());
+            }
+            appendEnum(out, country, rows);
+        }
+        return out.append("}\n").toString();
+    }
+
+    private static void appendEnum(StringBuilder out, Country country, List<Row> rows) {
+        String type = country.alpha2();
+        Map<String, String> constants = new HashMap<>();
+        Set<String> categories = new LinkedHashSet<>();
+        boolean parents = false;
+        boolean aliases = false;
+        boolean renamed = false;
+        for (Row row : rows) {
+            String part = row.code().substring(3);
+            String constant = Character.isJavaIdentifierStart(part.charAt(0)) ? part : type + "_" + part;
+            constants.put(row.code(), constant);
+            categories.add(row.category());
+            parents |= row.parent() != null;
+            aliases |= !row.aliases().isEmpty();
+            renamed |= !constant.equals(part);
+        }
+
+        out.append("\n    /**\n     * ISO-3166-2 subdivisions for ").append(country.name()).append(".\n     */\n");
+        out.append("    public enum ").append(type).append(" implements Subdivision {\n");
+        for (int i = 0; i < rows.size(); i++) {
+            Row row = rows.get(i);
+            out.append("        /** ").append(row.name()).append(" (").append(row.category()).append(") */\n");
+            out.append("        ").append(constants.get(row.code())).append('(').append(literal(row.code()))
+                    .append(", ").append(SubdivisionKeys.idOf(row.code())).append(", ").append(literal(row.name()))
+                    .append(", ").append(literal(row.category()));
+            if (parents) {
+                String parent = row.parent() == null ? "null" : constants.get(row.parent());
+                if (parent == null) {
+                    throw new IllegalArgumentException("Invalid parent " + row.parent() + " for " + row.code());
+                }
+                out.append(", ").append(parent);
+            }
+            if (aliases) {
+                List<String> literals = new ArrayList<>();
+                for (String alias : row.aliases()) {
+                    literals.add(literal(alias));
+                }
+                out.append(", List.of(").append(String.join(", ", literals)).append(')');
+            }
+            out.append(i == rows.size() - 1 ? ");\n\n" : "),\n");
+        }
+
+        appendIndex(out, type, rows);
+
+        out.append("        private final String code;\n");
+        out.append("        private final int id;\n");
+        out.append("        private final String name;\n");
+        out.append("        private final String category;\n");
+        if (parents) {
+            out.append("        private final ").append(type).append(" parent;\n");
+        }
+        if (aliases) {
+            out.append("        private final List<String> aliases;\n");
+        }
+        out.append('\n');
+        out.append("        ").append(type).append("(String code, int id, String name, String category")
+                .append(parents ? ", " + type + " parent" : "").append(aliases ? ", List<String> aliases) {\n" : ") {\n");
+        out.append("""
+                            this.code = code;
+                            this.id = id;
+                            this.name = name;
+                            this.category = category;
+                """);
+        if (parents) {
+            out.append("            this.parent = parent;\n");
+        }
+        if (aliases) {
+            out.append("            this.aliases = aliases;\n");
+        }
+        out.append("""
+                        }
+
+                        @Override
+                        public String getCode() {
+                            return code;
+                        }
+
+                        @Override
+                        public int getId() {
+                            return id;
+                        }
+
+                        @Override
+                        public String getSubdivisionName() {
+                            return name;
+                        }
+
+                        @Override
+                        public String getCategory() {
+                            return category;
+                        }
+                """);
+        if (parents) {
+            out.append("""
+
+                            @Override
+                            public Optional<Subdivision> getParent() {
+                                return Optional.ofNullable(parent);
+                            }
+                    """);
+        }
+        if (aliases) {
+            out.append("""
+
+                            @Override
+                            public List<String> getAliases() {
+                                return aliases;
+                            }
+                    """);
+        }
+        if (renamed) {
+            out.append("""
+
+                            @Override
+                            public String getSubdivisionCode() {
+                                return code.substring(code.indexOf('-') + 1);
+                            }
+                    """);
+        }
+        out.append("""
+
+                        /**
+                         * Returns the subdivision for the given code.
+                         *
+                         * @param code the ISO-3166-2 code or subdivision code part.
+                         * @return the subdivision.
+                         * @throws IllegalArgumentException if no subdivision is found for the given code.
+                         */
+                        public static $T fromCode(String code) {
+                            return SubdivisionCode.fromCode(INDEX, code);
+                        }
+
+                        /**
+                         * Returns the subdivision for the given code, without throwing when there is no match.
+                         *
+                         * @param code the ISO-3166-2 code or subdivision code part.
+                         * @return an Optional containing the subdivision if found, or empty otherwise.
+                         */
+                        public static Optional<$T> tryFromCode(String code) {
+                            return SubdivisionCode.tryFromCode(INDEX, code);
+                        }
+
+                        /**
+                         * Returns the subdivision for the given name or alias.
+                         *
+                         * @param name the subdivision name or alias.
+                         * @return an Optional containing the subdivision if found, or empty otherwise.
+                         */
+                        public static Optional<Subdivision> fromName(String name) {
+                            return SubdivisionCode.fromName(INDEX, name);
+                        }
+
+                        /**
+                         * Returns the subdivision for the given value, searching by code, then by name or alias.
+                         *
+                         * @param value the code, name or alias.
+                         * @return an Optional containing the subdivision if found, or empty otherwise.
+                         */
+                        public static Optional<Subdivision> find(String value) {
+                            return SubdivisionCode.find(INDEX, value);
+                        }
+
+                        /**
+                         * Returns the subdivisions whose name or code starts with the given prefix, for
+                         * typeahead completion.
+                         *
+                         * @param prefix the typed prefix.
+                         * @param limit  the maximum number of suggestions.
+                         * @return an immutable list of at most {@code limit} subdivisions, best first.
+                         * @throws IllegalArgumentException if {@code limit} is negative.
+                         * @see SubdivisionCode#suggest(String, int)
+                         */
+                        public static List<Subdivision> suggest(String prefix, int limit) {
+                            return SubdivisionCode.suggest(INDEX, prefix, limit);
+                        }
+
+                        /**
+                         * Returns the subdivisions whose name is within the given edit distance of a possibly
+                         * misspelled name.
+                         *
+                         * @param name        the name, possibly misspelled.
+                         * @param maxDistance the largest number of edits to accept, from 0 to 2.
+                         * @return an immutable list of the matches, closest first.
+                         * @throws IllegalArgumentException if {@code maxDistance} is negative or greater than 2.
+                         * @see SubdivisionCode#findFuzzy(String, int)
+                         */
+                        public static List<SubdivisionMatch> findFuzzy(String name, int maxDistance) {
+                            return SubdivisionCode.findFuzzy(INDEX, name, maxDistance);
+                        }
+
+                        /**
+                         * Extracts the subdivision mentioned in a free-text address line.
+                         *
+                         * @param text the address line.
+                         * @return an Optional containing the subdivision and the span of its mention, or empty
+                         *         if none is found.
+                         * @see SubdivisionCode#extract(CountryCode, CharSequence)
+                         */
+                        public static Optional<SubdivisionSpan> extract(CharSequence text) {
+                            return SubdivisionCode.extract(INDEX, text);
+                        }
+                """.replace("$T", type));
+        for (String category : categories) {
+            String plural = plural(category.toLowerCase(Locale.ROOT));
+            out.append("\n        /**\n         * Returns the ").append(country.adjective()).append(' ').append(plural)
+                    .append(".\n         *\n         * @return an immutable list of ").append(plural).append(".\n         */\n");
+            out.append("        public static List<Subdivision> get").append(methodName(plural)).append("() {\n");
+            out.append("            return SubdivisionCode.getByCategory(INDEX, ").append(literal(category)).append(");\n");
+            out.append("        }\n");
+        }
+        out.append("""
+
+                        /**
+                         * Returns the subdivisions for the given parent.
+                         *
+                         * @param parent the parent subdivision.
+                         * @return an immutable list of subdivisions belonging to the parent.
+                         */
+                        public static List<Subdivision> getByParent(Subdivision parent) {
+                            return SubdivisionCode.getByParent(INDEX, parent);
+                        }
+                    }
+                """);
+    }
+
+    /**
+     * Appends the {@code INDEX} field of an enum, with its code perfect hash precomputed over the
+     * keys {@link SubdivisionIndex} derives from the constants.
+     */
+    private static void appendIndex(StringBuilder out, String type, List<Row> rows) {
+        out.append("        private static final SubdivisionIndex<").append(type).append("> INDEX = new SubdivisionIndex<>(values(),\n");
+        appendHash(out, codeHash(rows, type));
+        out.append(");\n\n");
+    }
+
+    /**
+     * Searches for the perfect hash over the code keys {@link SubdivisionIndex} derives from the
+     * given subdivisions. It only depends on the set of keys, so the order of the rows does not
+     * matter.
+     *
+     * @throws IllegalArgumentException if no perfect hash separates the keys.
+     */
+    static SubdivisionPerfectHash codeHash(List<Row> rows, String what) {
+        String[] candidates = new String[rows.size() * 2];
+        for (int i = 0; i < rows.size(); i++) {
+            candidates[2 * i] = rows.get(i).code();
+            candidates[2 * i + 1] = rows.get(i).code().substring(3);
+        }
+        int[] distinct = SubdivisionKeys.distinct(candidates);
+        int[] codeHashes = new int[distinct.length];
+        for (int i = 0; i < distinct.length; i++) {
+            String code = candidates[distinct[i]];
+            codeHashes[i] = SubdivisionKeys.mix(SubdivisionKeys.key(code, code.length()));
+        }
+        SubdivisionPerfectHash codeHash = SubdivisionPerfectHash.build(codeHashes);
+        if (codeHash == null) {
+            throw new IllegalArgumentException("Colliding subdivision code hashes in " + what);
+        }
+        return codeHash;
+    }
+
+    private static void appendHash(StringBuilder out, SubdivisionPerfectHash hash) {
+        String indent = "                ";
+        StringBuilder line = new StringBuilder(indent).append("new SubdivisionPerfectHash(")
+                .append(hex(hash.seed())).append(", new int[] {");
+        int[] displacements = hash.displacements();
+        for (int i = 0; i < displacements.length; i++) {
+            String value = hex(displacements[i]) + (i == displacements.length - 1 ? "" : ",");
+            if (line.length() + value.length() + 1 > LINE_LENGTH) {
+                out.append(line).append('\n');
+                line = new StringBuilder(indent).append("        ");
+            } else if (i > 0) {
+                line.append(' ');
+            }
+            line.append(value);
+        }
+        out.append(line).append("}, ").append(hash.size()).append(')');
+    }
+
+    private static String hex(int value) {
+        return String.format("0x%08X", value);
+    }
+
+    /**
+     * Returns a category in the plural, e.g. "special island authorities" for "special island
+     * authority".
+     */
+    private static String plural(String category) {
+        if (category.endsWith("y") && "aeiou".indexOf(category.charAt(category.length() - 2)) < 0) {
+            return category.substring(0, category.length() - 1) + "ies";
+        }
+        if (category.endsWith("s") || category.endsWith("x") || category.endsWith("ch") || category.endsWith("sh")) {
+            return category + "es";
+        }
+        return category + "s";
+    }
+
+    /**
+     * Returns the getter suffix of a plural category, e.g. "SpecialIslandAuthorities".
+     */
+    private static String methodName(String plural) {
+        StringBuilder name = new StringBuilder();
+        for (String word : plural.split("[^A-Za-z0-9]+")) {
+            if (!word.isEmpty()) {
+                name.append(Character.toUpperCase(word.charAt(0))).append(word.substring(1));
+            }
+        }
+        return name.toString();
+    }
+
+    private static String literal(String value) {
+        return '"' + value.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+}
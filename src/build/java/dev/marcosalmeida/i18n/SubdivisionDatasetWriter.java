@@ -0,0 +1,144 @@
+package dev.marcosalmeida.i18n;
+
+import dev.marcosalmeida.i18n.SubdivisionSource.Row;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Build-time generator of the binary subdivision dataset read by {@link SubdivisionDataset}.
+ *
+ * <p>
+ * Reads a tab-separated {@linkplain SubdivisionSource source file} (code, name, category, optional
+ * parent code and optional aliases per line) and writes the layout documented on {@link SubdivisionDataset},
+ * leaving out the countries that {@link SubdivisionCodeGenerator} generates as enums. It runs during
+ * the {@code process-classes} phase of the Maven build, compiled against the library classes but
+ * left out of the library jar:
+ * </p>
+ * <pre>
+ * java dev.marcosalmeida.i18n.SubdivisionDatasetWriter &lt;source.tsv&gt; &lt;subdivisions.bin&gt; [&lt;countries.tsv&gt;]
+ * </pre>
+ */
+public final class SubdivisionDatasetWriter {
+
+    private SubdivisionDatasetWriter() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Generates the dataset.
+     *
+     * @param args the source TSV file, the binary file to write and optionally the TSV file listing
+     *             the countries generated as enums, which are left out.
+     * @throws IOException if reading or writing fails.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || args.length > 3) {
+            throw new IllegalArgumentException(
+                    "Usage: SubdivisionDatasetWriter <source.tsv> <subdivisions.bin> [<countries.tsv>]");
+        }
+        Set<String> skipped = new HashSet<>();
+        if (args.length == 3) {
+            for (String[] columns : SubdivisionSource.columns(Files.readAllLines(Path.of(args[2]), StandardCharsets.UTF_8))) {
+                skipped.add(columns[0]);
+            }
+        }
+        Path output = Path.of(args[1]);
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        Files.write(output, write(Files.readAllLines(Path.of(args[0]), StandardCharsets.UTF_8), skipped));
+    }
+
+    /**
+     * Encodes the given TSV lines into the binary dataset format.
+     *
+     * @param lines   the source lines.
+     * @param skipped the alpha-2 codes of the countries to leave out.
+     * @return the encoded dataset.
+     * @throws IllegalArgumentException if a line is malformed, a code is duplicated, a parent is
+     *                                  unknown or in another country, or no perfect hash separates
+     *                                  the codes of a country.
+     */
+    static byte[] write(List<String> lines, Set<String> skipped) throws IOException {
+        // Countries sorted by alpha-2 code; rows keep their source order
+        Map<String, List<Row>> countries = SubdivisionSource.subdivisions(lines);
+        countries.keySet().removeAll(skipped);
+
+        List<Row> rows = new ArrayList<>();
+        Map<String, Integer> recordIndexes = new HashMap<>();
+        for (Map.Entry<String, List<Row>> country : countries.entrySet()) {
+            // The index of a dataset country searches for its perfect hash when first loaded, which
+            // only depends on the set of codes, so checking here guarantees that it is found
+            SubdivisionCodeGenerator.codeHash(country.getValue(), country.getKey());
+            for (Row row : country.getValue()) {
+                recordIndexes.put(row.code(), rows.size());
+                rows.add(row);
+            }
+        }
+
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        ByteArrayOutputStream stringTable = new ByteArrayOutputStream();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(body);
+
+        int stringsOffset = SubdivisionDataset.HEADER_SIZE
+                + countries.size() * SubdivisionDataset.COUNTRY_SIZE
+                + rows.size() * SubdivisionDataset.RECORD_SIZE;
+        out.writeInt(SubdivisionDataset.MAGIC);
+        out.writeShort(SubdivisionDataset.VERSION);
+        out.writeShort(countries.size());
+        out.writeInt(rows.size());
+        out.writeInt(stringsOffset);
+
+        for (Map.Entry<String, List<Row>> country : countries.entrySet()) {
+            out.write(country.getKey().getBytes(StandardCharsets.US_ASCII));
+            out.writeShort(country.getValue().size());
+            out.writeInt(recordIndexes.get(country.getValue().get(0).code()));
+        }
+
+        for (Row row : rows) {
+            out.writeInt(intern(strings, stringTable, row.code()));
+            out.writeInt(intern(strings, stringTable, row.name()));
+            out.writeInt(intern(strings, stringTable, row.category()));
+            if (row.parent() == null) {
+                out.writeInt(-1);
+            } else {
+                Integer parent = recordIndexes.get(row.parent());
+                if (parent == null || !row.parent().regionMatches(0, row.code(), 0, 2)) {
+                    throw new IllegalArgumentException("Invalid parent " + row.parent() + " for " + row.code());
+                }
+                out.writeInt(parent);
+            }
+            out.writeInt(row.aliases().isEmpty() ? -1 : intern(strings, stringTable, String.join("\t", row.aliases())));
+        }
+
+        stringTable.writeTo(out);
+        out.flush();
+        return body.toByteArray();
+    }
+
+    private static int intern(Map<String, Integer> strings, ByteArrayOutputStream table, String value) throws IOException {
+        Integer offset = strings.get(value);
+        if (offset == null) {
+            offset = table.size();
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            DataOutputStream out = new DataOutputStream(table);
+            out.writeShort(bytes.length);
+            out.write(bytes);
+            out.flush();
+            strings.put(value, offset);
+        }
+        return offset;
+    }
+}
@@ -0,0 +1,117 @@
+package dev.marcosalmeida.i18n;
+
+import dev.marcosalmeida.i18n.SubdivisionSource.Row;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * Build-time generator of the translated name tables read by {@link SubdivisionNames}.
+ *
+ * <p>
+ * Compiles every {@code <locale>.tsv} file of a directory (code and translated name per line, e.g.
+ * {@code fr.tsv} or {@code pt_PT.tsv}) into a {@code names_<locale>.bin} table, checking each code
+ * against the {@linkplain SubdivisionSource source file}. It runs during the
+ * {@code process-classes} phase of the Maven build, compiled against the library classes but left
+ * out of the library jar:
+ * </p>
+ * <pre>
+ * java dev.marcosalmeida.i18n.SubdivisionNamesWriter &lt;source.tsv&gt; &lt;names directory&gt; &lt;output directory&gt;
+ * </pre>
+ */
+public final class SubdivisionNamesWriter {
+
+    /** Language, optionally followed by a country, as in {@link java.util.Locale#toString()}. */
+    private static final Pattern LOCALE = Pattern.compile("[a-z]{2,3}(_[A-Z]{2})?");
+
+    private SubdivisionNamesWriter() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Generates the tables.
+     *
+     * @param args the source TSV file, the directory of the translated names and the directory to
+     *             write the tables to.
+     * @throws IOException if reading or writing fails.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            throw new IllegalArgumentException(
+                    "Usage: SubdivisionNamesWriter <source.tsv> <names directory> <output directory>");
+        }
+        Set<String> codes = new HashSet<>();
+        for (List<Row> rows : SubdivisionSource.subdivisions(Files.readAllLines(Path.of(args[0]), StandardCharsets.UTF_8)).values()) {
+            for (Row row : rows) {
+                codes.add(row.code());
+            }
+        }
+        Path output = Path.of(args[2]);
+        Files.createDirectories(output);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(Path.of(args[1]), "*.tsv")) {
+            for (Path file : files) {
+                String locale = file.getFileName().toString().replaceFirst("\\.tsv$", "");
+                if (!LOCALE.matcher(locale).matches()) {
+                    throw new IllegalArgumentException("Invalid locale file name: " + file.getFileName());
+                }
+                Files.write(output.resolve("names_" + locale + ".bin"),
+                        write(Files.readAllLines(file, StandardCharsets.UTF_8), codes));
+            }
+        }
+    }
+
+    /**
+     * Encodes the given TSV lines into the table format documented on {@link SubdivisionNames}.
+     *
+     * @param lines the translated names, as code and name per line.
+     * @param codes the known subdivision codes.
+     * @return the encoded table.
+     * @throws IllegalArgumentException if a line is malformed, or a code is unknown or duplicated.
+     */
+    static byte[] write(List<String> lines, Set<String> codes) throws IOException {
+        // Sorted by id, so that the table can be binary searched
+        Map<Integer, byte[]> names = new TreeMap<>();
+        for (String[] columns : SubdivisionSource.columns(lines)) {
+            if (columns.length != 2 || columns[1].isBlank()) {
+                throw new IllegalArgumentException("Malformed names line: " + String.join("\t", columns));
+            }
+            if (!codes.contains(columns[0])) {
+                throw new IllegalArgumentException("Unknown subdivision code: " + columns[0]);
+            }
+            if (names.put(SubdivisionKeys.idOf(columns[0]), columns[1].getBytes(StandardCharsets.UTF_8)) != null) {
+                throw new IllegalArgumentException("Duplicate subdivision code: " + columns[0]);
+            }
+        }
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(body);
+        out.writeInt(SubdivisionNames.MAGIC);
+        out.writeShort(SubdivisionNames.VERSION);
+        out.writeShort(0);
+        out.writeInt(names.size());
+        for (int id : names.keySet()) {
+            out.writeInt(id);
+        }
+        int offset = 0;
+        out.writeInt(offset);
+        for (byte[] name : names.values()) {
+            offset += name.length;
+            out.writeInt(offset);
+        }
+        for (byte[] name : names.values()) {
+            out.write(name);
+        }
+        out.flush();
+        return body.toByteArray();
+    }
+}
@@ -0,0 +1,85 @@
+package dev.marcosalmeida.i18n;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Reader of the tab-separated source files compiled at build time by
+ * {@link SubdivisionDatasetWriter} and {@link SubdivisionCodeGenerator}.
+ *
+ * <p>
+ * Blank lines and lines starting with {@code #} are ignored. Kept free of any other dependency, like
+ * the generator itself, since it runs before the rest of the library is compiled.
+ * </p>
+ */
+final class SubdivisionSource {
+
+    private SubdivisionSource() {
+        // Prevent instantiation
+    }
+
+    /**
+     * A subdivision as written in the source file.
+     *
+     * @param code     the full ISO-3166-2 code.
+     * @param name     the subdivision name.
+     * @param category the subdivision category.
+     * @param parent   the full code of the parent subdivision, or {@code null} if none.
+     * @param aliases  the alternate names of the subdivision, possibly empty.
+     */
+    record Row(String code, String name, String category, String parent, List<String> aliases) {
+    }
+
+    /**
+     * Parses subdivision lines: code, name, category, optional parent code and optional aliases
+     * separated by {@code |}.
+     *
+     * @param lines the source lines.
+     * @return the rows grouped by alpha-2 country code, countries sorted by code and rows in source
+     *         order.
+     * @throws IllegalArgumentException if a line is malformed or a code is duplicated.
+     */
+    static Map<String, List<Row>> subdivisions(List<String> lines) {
+        Map<String, List<Row>> countries = new TreeMap<>();
+        Set<String> seen = new HashSet<>();
+        for (String[] columns : columns(lines)) {
+            if (columns.length < 3 || columns.length > 5 || columns[0].length() < 4 || columns[0].charAt(2) != '-') {
+                throw new IllegalArgumentException("Malformed dataset line: " + String.join("\t", columns));
+            }
+            String parent = columns.length >= 4 && !columns[3].isEmpty() ? columns[3] : null;
+            List<String> aliases = columns.length == 5 && !columns[4].isEmpty()
+                    ? List.of(columns[4].split("\\|", -1)) : List.of();
+            for (String alias : aliases) {
+                if (alias.isBlank()) {
+                    throw new IllegalArgumentException("Malformed dataset line: " + String.join("\t", columns));
+                }
+            }
+            Row row = new Row(columns[0], columns[1], columns[2], parent, aliases);
+            if (!seen.add(row.code())) {
+                throw new IllegalArgumentException("Duplicate subdivision code: " + row.code());
+            }
+            countries.computeIfAbsent(row.code().substring(0, 2), k -> new ArrayList<>()).add(row);
+        }
+        return countries;
+    }
+
+    /**
+     * Splits the non-comment lines of a source file into their tab-separated columns.
+     *
+     * @param lines the source lines.
+     * @return the columns of each line.
+     */
+    static List<String[]> columns(List<String> lines) {
+        List<String[]> rows = new ArrayList<>();
+        for (String line : lines) {
+            if (!line.isBlank() && !line.startsWith("#")) {
+                rows.add(line.split("\t", -1));
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,325 @@
+package dev.marcosalmeida.i18n;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmarks for the public lookup entry points of {@link SubdivisionCode} and its country enums.
+ *
+ * <p>
+ * Run with {@code mvn -P benchmark verify}. Throughput and average time are reported for every
+ * benchmark, together with the allocation rate from the GC profiler; results are written to
+ * {@code target/jmh-result.json}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SubdivisionCodeBenchmark {
+
+    // Non-final so the JIT cannot constant-fold the inputs.
+    private String fullCode = "US-WY";
+    private String shortCode = "WY";
+    private String lowerCaseCode = "us-wy";
+    private String missingCode = "US-XX";
+    private String datasetCode = "DE-BY";
+    private String name = "Wyoming";
+    private String accentedName = "Sao Paulo";
+    private String missingName = "Atlantis";
+    private Subdivision parent = SubdivisionCode.IE.L;
+    private SubdivisionSet shipping = SubdivisionSet.of(SubdivisionCode.US.CA, SubdivisionCode.US.NY, SubdivisionCode.CA.ON);
+    private SubdivisionSet taxExempt = SubdivisionSet.of(SubdivisionCode.US.NY, SubdivisionCode.US.OR);
+    private Subdivision member = SubdivisionCode.US.NY;
+    private int id = SubdivisionCode.US.WY.getId();
+    private byte[] csvLine = "1234,us-wy,WYOMING".getBytes(StandardCharsets.US_ASCII);
+    private StringBuilder codeBuilder = new StringBuilder("US-WY");
+    private String[] batch = batch();
+    private Subdivision[] batchOut = new Subdivision[batch.length];
+    private String document = document();
+    private SubdivisionIndex<Subdivision> registryIndex = new SubdivisionIndex<>(SubdivisionSet.allOf().toArray(new Subdivision[0]));
+    private Map<String, Subdivision> registryHashMap = registryHashMap();
+    private SubdivisionIntMap counters = new SubdivisionIntMap();
+    private SubdivisionMap<String> zones = new SubdivisionMap<>(Map.of(SubdivisionCode.US.NY, "east"));
+
+    /** About 3 KB of invoice-like text mentioning a dozen subdivisions. */
+    private static String document() {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 12; i++) {
+            text.append("Invoice ").append(1000 + i).append(": 3 units shipped from the warehouse on Main Street, ")
+                    .append(i % 3 == 0 ? "Springfield, Illinois" : i % 3 == 1 ? "Curitiba, PR (BR-PR)" : "Toronto, Ontario")
+                    .append(", net 30 days, tax included, payment by wire transfer to the usual account. ")
+                    .append("Questions about this order can be sent to the billing department at any time.\n");
+        }
+        return text.toString();
+    }
+
+    private static String[] batch() {
+        List<String> codes = new ArrayList<>();
+        for (Subdivision subdivision : SubdivisionSet.allOf()) {
+            codes.add(subdivision.getCode());
+            codes.add(subdivision.getSubdivisionCode().toLowerCase(Locale.ROOT));
+            codes.add(subdivision.getSubdivisionName());
+        }
+        codes.add("XX-YY");
+        return codes.toArray(new String[0]);
+    }
+
+    private static Map<String, Subdivision> registryHashMap() {
+        Map<String, Subdivision> map = new HashMap<>();
+        for (Subdivision subdivision : SubdivisionSet.allOf()) {
+            map.putIfAbsent(subdivision.getCode(), subdivision);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public Subdivision fromCodeFull() {
+        return SubdivisionCode.fromCode(fullCode);
+    }
+
+    /** Perfect hash probe over every registered code, without the country dispatch. */
+    @Benchmark
+    public Subdivision perfectHashGet() {
+        return registryIndex.getByCode(fullCode);
+    }
+
+    @Benchmark
+    public Subdivision perfectHashGetIgnoreCase() {
+        return registryIndex.getByCode(lowerCaseCode);
+    }
+
+    /** Baseline: case-sensitive {@link HashMap} over the same codes. */
+    @Benchmark
+    public Subdivision hashMapGet() {
+        return registryHashMap.get(fullCode);
+    }
+
+    /** Baseline: {@link HashMap} made case-insensitive the usual way, by upper-casing the key. */
+    @Benchmark
+    public Subdivision hashMapGetIgnoreCase() {
+        return registryHashMap.get(lowerCaseCode.toUpperCase(Locale.ROOT));
+    }
+
+    @Benchmark
+    public Object perfectHashMiss() {
+        return registryIndex.getByCode(missingCode);
+    }
+
+    @Benchmark
+    public Object hashMapMiss() {
+        return registryHashMap.get(missingCode);
+    }
+
+    @Benchmark
+    public Subdivision fromCodeShort() {
+        return SubdivisionCode.fromCode(shortCode);
+    }
+
+    @Benchmark
+    public Subdivision fromCodeDataset() {
+        return SubdivisionCode.fromCode(datasetCode);
+    }
+
+    @Benchmark
+    public Subdivision fromCodeLowerCase() {
+        return SubdivisionCode.fromCode(lowerCaseCode);
+    }
+
+    @Benchmark
+    public void fromCodeMiss(Blackhole blackhole) {
+        try {
+            blackhole.consume(SubdivisionCode.fromCode(missingCode));
+        } catch (IllegalArgumentException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public Object tryFromCodeMiss() {
+        return SubdivisionCode.tryFromCode(missingCode);
+    }
+
+    @Benchmark
+    public List<Subdivision> suggest() {
+        return SubdivisionCode.suggest("new", 5);
+    }
+
+    @Benchmark
+    public List<Subdivision> countrySuggest() {
+        return SubdivisionCode.US.suggest("new", 5);
+    }
+
+    @Benchmark
+    public List<SubdivisionMatch> findFuzzy() {
+        return SubdivisionCode.findFuzzy("Califronia", 2);
+    }
+
+    @Benchmark
+    public List<SubdivisionMatch> countryFindFuzzy() {
+        return SubdivisionCode.US.findFuzzy("Califronia", 2);
+    }
+
+    @Benchmark
+    public Optional<SubdivisionSpan> extractCode() {
+        return SubdivisionCode.US.extract("123 Main St, Springfield, IL 62704");
+    }
+
+    @Benchmark
+    public Optional<SubdivisionSpan> extractName() {
+        return SubdivisionCode.US.extract("1 Harbour View Rd, Charleston, West Virginia 25301");
+    }
+
+    @Benchmark
+    public void scan(Blackhole blackhole) {
+        SubdivisionCode.scan(document, (subdivision, start, end) -> blackhole.consume(subdivision));
+    }
+
+    @Benchmark
+    public Subdivision countryFromCodeFull() {
+        return SubdivisionCode.US.fromCode(fullCode);
+    }
+
+    @Benchmark
+    public Subdivision countryFromCodeShort() {
+        return SubdivisionCode.US.fromCode(shortCode);
+    }
+
+    @Benchmark
+    public Object countryTryFromCodeMiss() {
+        return SubdivisionCode.US.tryFromCode(missingCode);
+    }
+
+    @Benchmark
+    public Object fromName() {
+        return SubdivisionCode.fromName(name);
+    }
+
+    @Benchmark
+    public Object fromNameAccentInsensitive() {
+        return SubdivisionCode.fromName(accentedName);
+    }
+
+    @Benchmark
+    public Object fromNameMiss() {
+        return SubdivisionCode.fromName(missingName);
+    }
+
+    @Benchmark
+    public Object countryFromName() {
+        return SubdivisionCode.US.fromName(name);
+    }
+
+    @Benchmark
+    public Object findByCode() {
+        return SubdivisionCode.find(fullCode);
+    }
+
+    @Benchmark
+    public Object findByName() {
+        return SubdivisionCode.find(name);
+    }
+
+    @Benchmark
+    public Object findMiss() {
+        return SubdivisionCode.find(missingName);
+    }
+
+    @Benchmark
+    public Object countryFindByName() {
+        return SubdivisionCode.US.find(name);
+    }
+
+    @Benchmark
+    public Object getStates() {
+        return SubdivisionCode.getStates();
+    }
+
+    @Benchmark
+    public Object countryGetStates() {
+        return SubdivisionCode.US.getStates();
+    }
+
+    @Benchmark
+    public Object getByParent() {
+        return SubdivisionCode.getByParent(parent);
+    }
+
+    @Benchmark
+    public Object countryGetByParent() {
+        return SubdivisionCode.IE.getByParent(parent);
+    }
+
+    @Benchmark
+    public boolean setContains() {
+        return shipping.contains(member);
+    }
+
+    @Benchmark
+    public Object setUnion() {
+        return shipping.union(taxExempt);
+    }
+
+    @Benchmark
+    public Object setIntersection() {
+        return shipping.intersection(taxExempt);
+    }
+
+    @Benchmark
+    public int intMapAddTo() {
+        return counters.addTo(member, 1);
+    }
+
+    @Benchmark
+    public Object mapGet() {
+        return zones.get(member);
+    }
+
+    @Benchmark
+    public Subdivision byId() {
+        return SubdivisionCode.byId(id);
+    }
+
+    @Benchmark
+    public int getId() {
+        return member.getId();
+    }
+
+    @Benchmark
+    public Subdivision parseCodeBytes() {
+        return SubdivisionCode.parseCode(csvLine, 5, 5);
+    }
+
+    @Benchmark
+    public Subdivision parseCodeCharSequence() {
+        return SubdivisionCode.parseCode(codeBuilder);
+    }
+
+    @Benchmark
+    public Object resolveAll() {
+        return SubdivisionCode.resolveAll(batch, batchOut);
+    }
+
+    @Benchmark
+    public int findAll() {
+        return SubdivisionCode.findAll(batch, batchOut);
+    }
+}
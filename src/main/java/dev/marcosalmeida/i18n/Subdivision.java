@@ -1,5 +1,7 @@
 package dev.marcosalmeida.i18n;
 
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 /**
@@ -20,6 +22,35 @@ public interface Subdivision {
      */
     String getSubdivisionName();
 
+    /**
+     * Returns the name of the subdivision in the given locale (e.g., "Lombardie" in French or
+     * "Lombardy" in English for "Lombardia"). Translations are looked up for the language and
+     * country of the locale, then for its language alone, falling back to
+     * {@link #getSubdivisionName()}, which is also returned for a {@code null} locale.
+     *
+     * <p>
+     * The translated names of a locale are only loaded on the first request for that locale, so a
+     * JVM only holds the locales it uses.
+     * </p>
+     *
+     * @param locale the locale, or {@code null} for the default name.
+     * @return the translated name, or {@link #getSubdivisionName()} if there is no translation.
+     */
+    default String getSubdivisionName(Locale locale) {
+        return SubdivisionNames.name(this, locale);
+    }
+
+    /**
+     * Returns the alternate names of the subdivision, such as abbreviations ("Calif."), English or
+     * local-language names ("Lombardy" for "Lombardia") and former names ("Distrito Federal" for
+     * "Ciudad de México"). Lookups by name accept them as well as {@link #getSubdivisionName()}.
+     *
+     * @return an immutable list of the aliases, empty if there are none.
+     */
+    default List<String> getAliases() {
+        return List.of();
+    }
+
     /**
      * Returns the category of the subdivision (e.g., "State", "District", "Outlying area").
      *
@@ -40,6 +71,24 @@ public interface Subdivision {
         return getCode();
     }
 
+    /**
+     * Returns a stable numeric id for this subdivision, suitable for compact storage (e.g., an
+     * {@code int} column instead of the code string) and for {@link SubdivisionCode#byId(int)}.
+     *
+     * <p>
+     * The id is derived from {@link #getCode()} alone, so it does not change when subdivisions are
+     * added, removed or reordered. Ids are non-negative and fit in 26 bits, so they need an
+     * {@code int} rather than a {@code short} column. The subdivisions of this library return an id
+     * computed once, ahead of time for the {@link SubdivisionCode} enums; this default derives it
+     * from the code on every call.
+     * </p>
+     *
+     * @return the subdivision id.
+     */
+    default int getId() {
+        return SubdivisionKeys.idOf(getCode());
+    }
+
     /**
      * Returns the parent subdivision, if any.
      *
@@ -48,4 +97,13 @@ public interface Subdivision {
     default Optional<Subdivision> getParent() {
         return Optional.empty();
     }
+
+    /**
+     * Returns the direct children of this subdivision (e.g., the counties of an Irish province).
+     *
+     * @return an immutable list of child subdivisions, empty if there are none.
+     */
+    default List<Subdivision> getChildren() {
+        return SubdivisionCode.getByParent(this);
+    }
 }
@@ -1,1266 +0,0 @@
-package dev.marcosalmeida.i18n;
-
-import com.neovisionaries.i18n.CountryCode;
-import java.util.Arrays;
-import java.util.Optional;
-import java.util.stream.Stream;
-
-/**
- * Entry point for accessing ISO-3166-2 subdivisions.
- *
- * <p>
- * This class provides access to subdivisions for various countries using the syntax
- * {@code SubdivisionCode.COUNTRY.SUBDIVISION} (e.g., {@code SubdivisionCode.US.AL}).
- * </p>
- */
-public final class SubdivisionCode {
-
-    private SubdivisionCode() {
-        // Prevent instantiation
-    }
-
-    private static <T extends Subdivision> T fromCode(T[] values, String code) {
-        if (code == null || code.isEmpty()) {
-            throw new IllegalArgumentException("Invalid subdivision code: " + code);
-        }
-        return Arrays.stream(values)
-                .filter(s -> s.getCode().equalsIgnoreCase(code) || s.getSubdivisionCode().equalsIgnoreCase(code))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("No subdivision found for code: " + code));
-    }
-
-    private static <T extends Subdivision> Optional<Subdivision> fromName(T[] values, String name) {
-        if (name == null || name.isBlank()) {
-            return Optional.empty();
-        }
-        String normalized = name.trim();
-        return Arrays.stream(values)
-                .filter(s -> s.getSubdivisionName().equalsIgnoreCase(normalized))
-                .map(Subdivision.class::cast)
-                .findFirst();
-    }
-
-    private static <T extends Subdivision> Optional<Subdivision> find(T[] values, String value) {
-        if (value == null || value.isBlank()) {
-            return Optional.empty();
-        }
-
-        try {
-            return Optional.of(fromCode(values, value));
-        } catch (IllegalArgumentException e) {
-            return fromName(values, value);
-        }
-    }
-
-    private static <T extends Subdivision> Subdivision[] getByCategory(T[] values, String category) {
-        if (category == null || category.isBlank()) {
-            return new Subdivision[0];
-        }
-        return Arrays.stream(values)
-                .filter(s -> s.getCategory().equalsIgnoreCase(category))
-                .toArray(Subdivision[]::new);
-    }
-
-    private static <T extends Subdivision> Subdivision[] getByParent(T[] values, Subdivision parent) {
-        if (parent == null) {
-            return new Subdivision[0];
-        }
-        return Arrays.stream(values)
-                .filter(s -> s.getParent().map(p -> p.equals(parent)).orElse(false))
-                .toArray(Subdivision[]::new);
-    }
-
-    /**
-     * ISO-3166-2 subdivisions for Australia.
-     */
-    public enum AU implements Subdivision {
-        /** Australian Capital Territory (territory) */
-        ACT("AU-ACT", "Australian Capital Territory", "territory"),
-        /** New South Wales (state) */
-        NSW("AU-NSW", "New South Wales", "state"),
-        /** Northern Territory (territory) */
-        NT("AU-NT", "Northern Territory", "territory"),
-        /** Queensland (state) */
-        QLD("AU-QLD", "Queensland", "state"),
-        /** South Australia (state) */
-        SA("AU-SA", "South Australia", "state"),
-        /** Tasmania (state) */
-        TAS("AU-TAS", "Tasmania", "state"),
-        /** Victoria (state) */
-        VIC("AU-VIC", "Victoria", "state"),
-        /** Western Australia (state) */
-        WA("AU-WA", "Western Australia", "state");
-
-        private final String code;
-        private final String name;
-        private final String category;
-
-        AU(String code, String name, String category) {
-            this.code = code;
-            this.name = name;
-            this.category = category;
-        }
-
-        @Override
-        public String getCode() {
-            return code;
-        }
-
-        @Override
-        public String getSubdivisionName() {
-            return name;
-        }
-
-        @Override
-        public String getCategory() {
-            return category;
-        }
-
-        /**
-         * Returns the subdivision for the given code.
-         *
-         * @param code the ISO-3166-2 code or subdivision code part.
-         * @return the subdivision.
-         * @throws IllegalArgumentException if no subdivision is found for the given code.
-         */
-        public static AU fromCode(String code) {
-            return SubdivisionCode.fromCode(values(), code);
-        }
-
-        /**
-         * Returns the subdivision for the given name.
-         *
-         * @param name the subdivision name.
-         * @return an Optional containing the subdivision if found, or empty otherwise.
-         */
-        public static Optional<Subdivision> fromName(String name) {
-            return SubdivisionCode.fromName(values(), name);
-        }
-
-        /**
-         * Returns the subdivision for the given value, searching by code or name.
-         *
-         * @param value the code or name.
-         * @return an Optional containing the subdivision if found, or empty otherwise.
-         */
-        public static Optional<Subdivision> find(String value) {
-            return SubdivisionCode.find(values(), value);
-        }
-
-        /**
-         * Returns the Australian states.
-         *
-         * @return an array of states.
-         */
-        public static Subdivision[] getStates() {
-            return SubdivisionCode.getByCategory(values(), "state");
-        }
-
-        /**
-         * Returns the Australian territories.
-         *
-         * @return an array of territories.
-         */
-        public static Subdivision[] getTerritories() {
-            return SubdivisionCode.getByCategory(values(), "territory");
-        }
-    }
-
-    /**
-     * ISO-3166-2 subdivisions for Brazil.
-     */
-    public enum BR implements Subdivision {
-        /** Acre (state) */
-        AC("BR-AC", "Acre", "state"),
-        /** Alagoas (state) */
-        AL("BR-AL", "Alagoas", "state"),
-        /** Amapá (state) */
-        AP("BR-AP", "Amapá", "state"),
-        /** Amazonas (state) */
-        AM("BR-AM", "Amazonas", "state"),
-        /** Bahia (state) */
-        BA("BR-BA", "Bahia", "state"),
-        /** Ceará (state) */
-        CE("BR-CE", "Ceará", "state"),
-        /** Distrito Federal (federal district) */
-        DF("BR-DF", "Distrito Federal", "federal district"),
-        /** Espírito Santo (state) */
-        ES("BR-ES", "Espírito Santo", "state"),
-        /** Goiás (state) */
-        GO("BR-GO", "Goiás", "state"),
-        /** Maranhão (state) */
-        MA("BR-MA", "Maranhão", "state"),
-        /** Mato Grosso (state) */
-        MT("BR-MT", "Mato Grosso", "state"),
-        /** Mato Grosso do Sul (state) */
-        MS("BR-MS", "Mato Grosso do Sul", "state"),
-        /** Minas Gerais (state) */
-        MG("BR-MG", "Minas Gerais", "state"),
-        /** Pará (state) */
-        PA("BR-PA", "Pará", "state"),
-        /** Paraíba (state) */
-        PB("BR-PB", "Paraíba", "state"),
-        /** Paraná (state) */
-        PR("BR-PR", "Paraná", "state"),
-        /** Pernambuco (state) */
-        PE("BR-PE", "Pernambuco", "state"),
-        /** Piauí (state) */
-        PI("BR-PI", "Piauí", "state"),
-        /** Rio de Janeiro (state) */
-        RJ("BR-RJ", "Rio de Janeiro", "state"),
-        /** Rio Grande do Norte (state) */
-        RN("BR-RN", "Rio Grande do Norte", "state"),
-        /** Rio Grande do Sul (state) */
-        RS("BR-RS", "Rio Grande do Sul", "state"),
-        /** Rondônia (state) */
-        RO("BR-RO", "Rondônia", "state"),
-        /** Roraima (state) */
-        RR("BR-RR", "Roraima", "state"),
-        /** Santa Catarina (state) */
-        SC("BR-SC", "Santa Catarina", "state"),
-        /** São Paulo (state) */
-        SP("BR-SP", "São Paulo", "state"),
-        /** Sergipe (state) */
-        SE("BR-SE", "Sergipe", "state"),
-        /** Tocantins (state) */
-        TO("BR-TO", "Tocantins", "state");
-
-        private final String code;
-        private final String name;
-        private final String category;
-
-        BR(String code, String name, String category) {
-            this.code = code;
-            this.name = name;
-            this.category = category;
-        }
-
-        @Override
-        public String getCode() {
-            return code;
-        }
-
-        @Override
-        public String getSubdivisionName() {
-            return name;
-        }
-
-        @Override
-        public String getCategory() {
-            return category;
-        }
-
-        /**
-         * Returns the subdivision for the given code.
-         *
-         * @param code the ISO-3166-2 code or subdivision code part.
-         * @return the subdivision.
-         * @throws IllegalArgumentException if no subdivision is found for the given code.
-         */
-        public static BR fromCode(String code) {
-            return SubdivisionCode.fromCode(values(), code);
-        }
-
-        /**
-         * Returns the subdivision for the given name.
-         *
-         * @param name the subdivision name.
-         * @return an Optional containing the subdivision if found, or empty otherwise.
-         */
-        public static Optional<Subdivision> fromName(String name) {
-            return SubdivisionCode.fromName(values(), name);
-        }
-
-        /**
-         * Returns the subdivision for the given value, searching by code or name.
-         *
-         * @param value the code or name.
-         * @return an Optional containing the subdivision if found, or empty otherwise.
-         */
-        public static Optional<Subdivision> find(String value) {
-            return SubdivisionCode.find(values(), value);
-        }
-
-        /**
-         * Returns the Brazilian states.
-         *
-         * @return an array of states.
-         */
-        public static Subdivision[] getStates() {
-            return SubdivisionCode.getByCategory(values(), "state");
-        }
-
-        /**
-         * Returns the Brazilian federal districts.
-         *
-         * @return an array of federal districts.
-         */
-        public static Subdivision[] getFederalDistricts() {
-            return SubdivisionCode.getByCategory(values(), "federal district");
-        }
-    }
-
-    /**
-     * ISO-3166-2 subdivisions for Canada.
-     */
-    public enum CA implements Subdivision {
-        /** Alberta (Province) */
-        AB("CA-AB", "Alberta", "Province"),
-        /** British Columbia (Province) */
-        BC("CA-BC", "British Columbia", "Province"),
-        /** Manitoba (Province) */
-        MB("CA-MB", "Manitoba", "Province"),
-        /** New Brunswick (Province) */
-        NB("CA-NB", "New Brunswick", "Province"),
-        /** Newfoundland and Labrador (Province) */
-        NL("CA-NL", "Newfoundland and Labrador", "Province"),
-        /** Nova Scotia (Province) */
-        NS("CA-NS", "Nova Scotia", "Province"),
-        /** Northwest Territories (Territory) */
-        NT("CA-NT", "Northwest Territories", "Territory"),
-        /** Nunavut (Territory) */
-        NU("CA-NU", "Nunavut", "Territory"),
-        /** Ontario (Province) */
-        ON("CA-ON", "Ontario", "Province"),
-        /** Prince Edward Island (Province) */
-        PE("CA-PE", "Prince Edward Island", "Province"),
-        /** Quebec (Province) */
-        QC("CA-QC", "Quebec", "Province"),
-        /** Saskatchewan (Province) */
-        SK("CA-SK", "Saskatchewan", "Province"),
-        /** Yukon (Territory) */
-        YT("CA-YT", "Yukon", "Territory");
-
-        private final String code;
-        private final String name;
-        private final String category;
-
-        CA(String code, String name, String category) {
-            this.code = code;
-            this.name = name;
-            this.category = category;
-        }
-
-        @Override
-        public String getCode() {
-            return code;
-        }
-
-        @Override
-        public String getSubdivisionName() {
-            return name;
-        }
-
-        @Override
-        public String getCategory() {
-            return category;
-        }
-
-        /**
-         * Returns the subdivision for the given code.
-         *
-         * @param code the ISO-3166-2 code or subdivision code part.
-         * @return the subdivision.
-         * @throws IllegalArgumentException if no subdivision is found for the given code.
-         */
-        public static CA fromCode(String code) {
-            return SubdivisionCode.fromCode(values(), code);
-        }
-
-        /**
-         * Returns the subdivision for the given name.
-         *
-         * @param name the subdivision name.
-         * @return an Optional containing the subdivision if found, or empty otherwise.
-         */
-        public static Optional<Subdivision> fromName(String name) {
-            return SubdivisionCode.fromName(values(), name);
-        }
-
-        /**
-         * Returns the subdivision for the given value, searching by code or name.
-         *
-         * @param value the code or name.
-         * @return an Optional containing the subdivision if found, or empty otherwise.
-         */
-        public static Optional<Subdivision> find(String value) {
-            return SubdivisionCode.find(values(), value);
-        }
-
-        /**
-         * Returns the Canadian provinces.
-         *
-         * @return an array of provinces.
-         */
-        public static Subdivision[] getProvinces() {
-            return SubdivisionCode.getByCategory(values(), "Province");
-        }
-
-        /**
-         * Returns the Canadian territories.
-         *
-         * @return an array of territories.
-         */
-        public static Subdivision[] getTerritories() {
-            return SubdivisionCode.getByCategory(values(), "Territory");
-        }
-    }
-
-    /**
-     * ISO-3166-2 subdivisions for Ireland.
-     */
-    public enum IE implements Subdivision {
-        /** Connaught (province) */
-        C("IE-C", "Connaught", "province", null),
-        /** Leinster (province) */
-        L("IE-L", "Leinster", "province", null),
-        /** Munster (province) */
-        M("IE-M", "Munster", "province", null),
-        /** Ulster (province) */
-        U("IE-U", "Ulster", "province", null),
-        /** Carlow (county) */
-        CW("IE-CW", "Carlow", "county", L),
-        /** Cavan (county) */
-        CN("IE-CN", "Cavan", "county", U),
-        /** Clare (county) */
-        CE("IE-CE", "Clare", "county", M),
-        /** Cork (county) */
-        CO("IE-CO", "Cork", "county", M),
-        /** Donegal (county) */
-        DL("IE-DL", "Donegal", "county", U),
-        /** Dublin (county) */
-        D("IE-D", "Dublin", "county", L),
-        /** Galway (county) */
-        G("IE-G", "Galway", "county", C),
-        /** Kerry (county) */
-        KY("IE-KY", "Kerry", "county", M),
-        /** Kildare (county) */
-        KE("IE-KE", "Kildare", "county", L),
-        /** Kilkenny (county) */
-        KK("IE-KK", "Kilkenny", "county", L),
-        /** Laois (county) */
-        LS("IE-LS", "Laois", "county", L),
-        /** Leitrim (county) */
-        LM("IE-LM", "Leitrim", "county", C),
-        /** Limerick (county) */
-        LK("IE-LK", "Limerick", "county", M),
-        /** Longford (county) */
-        LD("IE-LD", "Longford", "county", L),
-        /** Louth (county) */
-        LH("IE-LH", "Louth", "county", L),
-        /** Mayo (county) */
-        MO("IE-MO", "Mayo", "county", C),
-        /** Meath (county) */
-        MH("IE-MH", "Meath", "county", L),
-        /** Monaghan (county) */
-        MN("IE-MN", "Monaghan", "county", U),
-        /** Offaly (county) */
-        OY("IE-OY", "Offaly", "county", L),
-        /** Roscommon (county) */
-        RN("IE-RN", "Roscommon", "county", C),
-        /** Sligo (county) */
-        SO("IE-SO", "Sligo", "county", C),
-        /** Tipperary (county) */
-        TA("IE-TA", "Tipperary", "county", M),
-        /** Waterford (county) */
-        WD("IE-WD", "Waterford", "county", M),
-        /** Westmeath (county) */
-        WH("IE-WH", "Westmeath", "county", L),
-        /** Wexford (county) */
-        WX("IE-WX", "Wexford", "county", L),
-        /** Wicklow (county) */
-        WW("IE-WW", "Wicklow", "county", L);
-
-        private final String code;
-        private final String name;
-        private final String category;
-        private final IE parent;
-
-        IE(String code, String name, String category, IE parent) {
-            this.code = code;
-            this.name = name;
-            this.category = category;
-            this.parent = parent;
-        }
-
-        @Override
-        public String getCode() {
-            return code;
-        }
-
-        @Override
-        public String getSubdivisionName() {
-            return name;
-        }
-
-        @Override
-        public String getCategory() {
-            return category;
-        }
-
-        @Override
-        public Optional<Subdivision> getParent() {
-            return Optional.ofNullable(parent);
-        }
-
-        /**
-         * Returns the subdivision for the given code.
-         *
-         * @param code the ISO-3166-2 code or subdivision code part.
-         * @return the subdivision.
-         * @throws IllegalArgumentException if no subdivision is found for the given code.
-         */
-        public static IE fromCode(String code) {
-            return SubdivisionCode.fromCode(values(), code);
-        }
-
-        /**
-         * Returns the subdivision for the given name.
-         *
-         * @param name the subdivision name.
-         * @return an Optional containing the subdivision if found, or empty otherwise.
-         */
-        public static Optional<Subdivision> fromName(String name) {
-            return SubdivisionCode.fromName(values(), name);
-        }
-
-        /**
-         * Returns the subdivision for the given value, searching by code or name.
-         *
-         * @param value the code or name.
-         * @return an Optional containing the subdivision if found, or empty otherwise.
-         */
-        public static Optional<Subdivision> find(String value) {
-            return SubdivisionCode.find(values(), value);
-        }
-
-        /**
-         * Returns the Irish provinces.
-         *
-         * @return an array of provinces.
-         */
-        public static Subdivision[] getProvinces() {
-            return SubdivisionCode.getByCategory(values(), "province");
-        }
-
-        /**
-         * Returns the Irish counties.
-         *
-         * @return an array of counties.
-         */
-        public static Subdivision[] getCounties() {
-            return SubdivisionCode.getByCategory(values(), "county");
-        }
-
-        /**
-         * Returns the subdivisions for the given parent.
-         *
-         * @param parent the parent subdivision.
-         * @return an array of subdivisions belonging to the parent.
-         */
-        public static Subdivision[] getByParent(Subdivision parent) {
-            return SubdivisionCode.getByParent(values(), parent);
-        }
-    }
-
-    /**
-     * ISO-3166-2 subdivisions for Italy.
-     */
-    public enum IT implements Subdivision {
-        /** Abruzzo (region) */
-        IT_65("IT-65", "Abruzzo", "region"),
-        /** Basilicata (region) */
-        IT_77("IT-77", "Basilicata", "region"),
-        /** Calabria (region) */
-        IT_78("IT-78", "Calabria", "region"),
-        /** Campania (region) */
-        IT_72("IT-72", "Campania", "region"),
-        /** Emilia-Romagna (region) */
-        IT_45("IT-45", "Emilia-Romagna", "region"),
-        /** Friuli Venezia Giulia (autonomous region) */
-        IT_36("IT-36", "Friuli Venezia Giulia", "autonomous region"),
-        /** Lazio (region) */
-        IT_62("IT-62", "Lazio", "region"),
-        /** Liguria (region) */
-        IT_42("IT-42", "Liguria", "region"),
-        /** Lombardia (region) */
-        IT_25("IT-25", "Lombardia", "region"),
-        /** Marche (region) */
-        IT_57("IT-57", "Marche", "region"),
-        /** Molise (region) */
-        IT_67("IT-67", "Molise", "region"),
-        /** Piemonte (region) */
-        IT_21("IT-21", "Piemonte", "region"),
-        /** Puglia (region) */
-        IT_75("IT-75", "Puglia", "region"),
-        /** Sardegna (autonomous region) */
-        IT_88("IT-88", "Sardegna", "autonomous region"),
-        /** Sicilia (autonomous region) */
-        IT_82("IT-82", "Sicilia", "autonomous region"),
-        /** Toscana (region) */
-        IT_52("IT-52", "Toscana", "region"),
-        /** Trentino-Alto Adige (autonomous region) */
-        IT_32("IT-32", "Trentino-Alto Adige", "autonomous region"),
-        /** Umbria (region) */
-        IT_55("IT-55", "Umbria", "region"),
-        /** Valle d'Aosta (autonomous region) */
-        IT_23("IT-23", "Valle d'Aosta", "autonomous region"),
-        /** Veneto (region) */
-        IT_34("IT-34", "Veneto", "region");
-
-        private final String code;
-        private final String name;
-        private final String category;
-
-        IT(String code, String name, String category) {
-            this.code = code;
-            this.name = name;
-            this.category = category;
-        }
-
-        @Override
-        public String getCode() {
-            return code;
-        }
-
-        @Override
-        public String getSubdivisionName() {
-            return name;
-        }
-
-        @Override
-        public String getCategory() {
-            return category;
-        }
-
-        @Override
-        public String getSubdivisionCode() {
-            String name = name();
-            return name.substring(name.lastIndexOf("_") + 1);
-        }
-
-        /**
-         * Returns the subdivision for the given code.
-         *
-         * @param code the ISO-3166-2 code or subdivision code part.
-         * @return the subdivision.
-         * @throws IllegalArgumentException if no subdivision is found for the given code.
-         */
-        public static IT fromCode(String code) {
-            return SubdivisionCode.fromCode(values(), code);
-        }
-
-        /**
-         * Returns the subdivision for the given name.
-         *
-         * @param name the subdivision name.
-         * @return an Optional containing the subdivision if found, or empty otherwise.
-         */
-        public static Optional<Subdivision> fromName(String name) {
-            return SubdivisionCode.fromName(values(), name);
-        }
-
-        /**
-         * Returns the subdivision for the given value, searching by code or name.
-         *
-         * @param value the code or name.
-         * @return an Optional containing the subdivision if found, or empty otherwise.
-         */
-        public static Optional<Subdivision> find(String value) {
-            return SubdivisionCode.find(values(), value);
-        }
-
-        /**
-         * Returns the Italian regions.
-         *
-         * @return an array of regions.
-         */
-        public static Subdivision[] getRegions() {
-            return SubdivisionCode.getByCategory(values(), "region");
-        }
-
-        /**
-         * Returns the Italian autonomous regions.
-         *
-         * @return an array of autonomous regions.
-         */
-        public static Subdivision[] getAutonomousRegions() {
-            return SubdivisionCode.getByCategory(values(), "autonomous region");
-        }
-    }
-
-    /**
-     * ISO-3166-2 subdivisions for Mexico.
-     */
-    public enum MX implements Subdivision {
-        /** Aguascalientes (state) */
-        AGU("MX-AGU", "Aguascalientes", "state"),
-        /** Baja California (state) */
-        BCN("MX-BCN", "Baja California", "state"),
-        /** Baja California Sur (state) */
-        BCS("MX-BCS", "Baja California Sur", "state"),
-        /** Campeche (state) */
-        CAM("MX-CAM", "Campeche", "state"),
-        /** Chiapas (state) */
-        CHP("MX-CHP", "Chiapas", "state"),
-        /** Chihuahua (state) */
-        CHH("MX-CHH", "Chihuahua", "state"),
-        /** Ciudad de México (federal entity) */
-        CMX("MX-CMX", "Ciudad de México", "federal entity"),
-        /** Coahuila de Zaragoza (state) */
-        COA("MX-COA", "Coahuila de Zaragoza", "state"),
-        /** Colima (state) */
-        COL("MX-COL", "Colima", "state"),
-        /** Durango (state) */
-        DUR("MX-DUR", "Durango", "state"),
-        /** Guanajuato (state) */
-        GUA("MX-GUA", "Guanajuato", "state"),
-        /** Guerrero (state) */
-        GRO("MX-GRO", "Guerrero", "state"),
-        /** Hidalgo (state) */
-        HID("MX-HID", "Hidalgo", "state"),
-        /** Jalisco (state) */
-        JAL("MX-JAL", "Jalisco", "state"),
-        /** Michoacán de Ocampo (state) */
-        MIC("MX-MIC", "Michoacán de Ocampo", "state"),
-        /** Morelos (state) */
-        MOR("MX-MOR", "Morelos", "state"),
-        /** México (state) */
-        MEX("MX-MEX", "México", "state"),
-        /** Nayarit (state) */
-        NAY("MX-NAY", "Nayarit", "state"),
-        /** Nuevo León (state) */
-        NLE("MX-NLE", "Nuevo León", "state"),
-        /** Oaxaca (state) */
-        OAX("MX-OAX", "Oaxaca", "state"),
-        /** Puebla (state) */
-        PUE("MX-PUE", "Puebla", "state"),
-        /** Querétaro (state) */
-        QUE("MX-QUE", "Querétaro", "state"),
-        /** Quintana Roo (state) */
-        ROO("MX-ROO", "Quintana Roo", "state"),
-        /** San Luis Potosí (state) */
-        SLP("MX-SLP", "San Luis Potosí", "state"),
-        /** Sinaloa (state) */
-        SIN("MX-SIN", "Sinaloa", "state"),
-        /** Sonora (state) */
-        SON("MX-SON", "Sonora", "state"),
-        /** Tabasco (state) */
-        TAB("MX-TAB", "Tabasco", "state"),
-        /** Tamaulipas (state) */
-        TAM("MX-TAM", "Tamaulipas", "state"),
-        /** Tlaxcala (state) */
-        TLA("MX-TLA", "Tlaxcala", "state"),
-        /** Veracruz de Ignacio de la Llave (state) */
-        VER("MX-VER", "Veracruz de Ignacio de la Llave", "state"),
-        /** Yucatán (state) */
-        YUC("MX-YUC", "Yucatán", "state"),
-        /** Zacatecas (state) */
-        ZAC("MX-ZAC", "Zacatecas", "state");
-
-        private final String code;
-        private final String name;
-        private final String category;
-
-        MX(String code, String name, String category) {
-            this.code = code;
-            this.name = name;
-            this.category = category;
-        }
-
-        @Override
-        public String getCode() {
-            return code;
-        }
-
-        @Override
-        public String getSubdivisionName() {
-            return name;
-        }
-
-        @Override
-        public String getCategory() {
-            return category;
-        }
-
-        /**
-         * Returns the subdivision for the given code.
-         *
-         * @param code the ISO-3166-2 code or subdivision code part.
-         * @return the subdivision.
-         * @throws IllegalArgumentException if no subdivision is found for the given code.
-         */
-        public static MX fromCode(String code) {
-            return SubdivisionCode.fromCode(values(), code);
-        }
-
-        /**
-         * Returns the subdivision for the given name.
-         *
-         * @param name the subdivision name.
-         * @return an Optional containing the subdivision if found, or empty otherwise.
-         */
-        public static Optional<Subdivision> fromName(String name) {
-            return SubdivisionCode.fromName(values(), name);
-        }
-
-        /**
-         * Returns the subdivision for the given value, searching by code or name.
-         *
-         * @param value the code or name.
-         * @return an Optional containing the subdivision if found, or empty otherwise.
-         */
-        public static Optional<Subdivision> find(String value) {
-            return SubdivisionCode.find(values(), value);
-        }
-
-        /**
-         * Returns the Mexican states.
-         *
-         * @return an array of states.
-         */
-        public static Subdivision[] getStates() {
-            return SubdivisionCode.getByCategory(values(), "state");
-        }
-
-        /**
-         * Returns the Mexican federal entities.
-         *
-         * @return an array of federal entities.
-         */
-        public static Subdivision[] getFederalEntities() {
-            return SubdivisionCode.getByCategory(values(), "federal entity");
-        }
-
-        /**
-         * Returns the subdivisions for the given parent.
-         *
-         * @param parent the parent subdivision.
-         * @return an array of subdivisions belonging to the parent.
-         */
-        public static Subdivision[] getByParent(Subdivision parent) {
-            return SubdivisionCode.getByParent(values(), parent);
-        }
-    }
-
-    /**
-     * ISO-3166-2 subdivisions for New Zealand.
-     */
-    public enum NZ implements Subdivision {
-        /** Auckland (region) */
-        AUK("NZ-AUK", "Auckland", "region"),
-        /** Bay of Plenty (region) */
-        BOP("NZ-BOP", "Bay of Plenty", "region"),
-        /** Canterbury (region) */
-        CAN("NZ-CAN", "Canterbury", "region"),
-        /** Chatham Islands Territory (special island authority) */
-        CIT("NZ-CIT", "Chatham Islands Territory", "special island authority"),
-        /** Gisborne (region) */
-        GIS("NZ-GIS", "Gisborne", "region"),
-        /** Greater Wellington (region) */
-        WGN("NZ-WGN", "Greater Wellington", "region"),
-        /** Hawke's Bay (region) */
-        HKB("NZ-HKB", "Hawke's Bay", "region"),
-        /** Manawatū-Whanganui (region) */
-        MWT("NZ-MWT", "Manawatū-Whanganui", "region"),
-        /** Marlborough (region) */
-        MBH("NZ-MBH", "Marlborough", "region"),
-        /** Nelson (region) */
-        NSN("NZ-NSN", "Nelson", "region"),
-        /** Northland (region) */
-        NTL("NZ-NTL", "Northland", "region"),
-        /** Otago (region) */
-        OTA("NZ-OTA", "Otago", "region"),
-        /** Southland (region) */
-        STL("NZ-STL", "Southland", "region"),
-        /** Taranaki (region) */
-        TKI("NZ-TKI", "Taranaki", "region"),
-        /** Tasman (region) */
-        TAS("NZ-TAS", "Tasman", "region"),
-        /** Waikato (region) */
-        WKO("NZ-WKO", "Waikato", "region"),
-        /** West Coast (region) */
-        WTC("NZ-WTC", "West Coast", "region");
-
-        private final String code;
-        private final String name;
-        private final String category;
-
-        NZ(String code, String name, String category) {
-            this.code = code;
-            this.name = name;
-            this.category = category;
-        }
-
-        @Override
-        public String getCode() {
-            return code;
-        }
-
-        @Override
-        public String getSubdivisionName() {
-            return name;
-        }
-
-        @Override
-        public String getCategory() {
-            return category;
-        }
-
-        /**
-         * Returns the subdivision for the given code.
-         *
-         * @param code the ISO-3166-2 code or subdivision code part.
-         * @return the subdivision.
-         * @throws IllegalArgumentException if no subdivision is found for the given code.
-         */
-        public static NZ fromCode(String code) {
-            return SubdivisionCode.fromCode(values(), code);
-        }
-
-        /**
-         * Returns the subdivision for the given name.
-         *
-         * @param name the subdivision name.
-         * @return an Optional containing the subdivision if found, or empty otherwise.
-         */
-        public static Optional<Subdivision> fromName(String name) {
-            return SubdivisionCode.fromName(values(), name);
-        }
-
-        /**
-         * Returns the subdivision for the given value, searching by code or name.
-         *
-         * @param value the code or name.
-         * @return an Optional containing the subdivision if found, or empty otherwise.
-         */
-        public static Optional<Subdivision> find(String value) {
-            return SubdivisionCode.find(values(), value);
-        }
-
-        /**
-         * Returns the New Zealand regions.
-         *
-         * @return an array of regions.
-         */
-        public static Subdivision[] getRegions() {
-            return SubdivisionCode.getByCategory(values(), "region");
-        }
-
-        /**
-         * Returns the New Zealand special island authorities.
-         *
-         * @return an array of special island authorities.
-         */
-        public static Subdivision[] getSpecialIslandAuthorities() {
-            return SubdivisionCode.getByCategory(values(), "special island authority");
-        }
-    }
-
-    /**
-     * ISO-3166-2 subdivisions for the United States.
-     */
-    public enum US implements Subdivision {
-        /** Alabama (State) */
-        AL("US-AL", "Alabama", "State"),
-        /** Alaska (State) */
-        AK("US-AK", "Alaska", "State"),
-        /** Arizona (State) */
-        AZ("US-AZ", "Arizona", "State"),
-        /** Arkansas (State) */
-        AR("US-AR", "Arkansas", "State"),
-        /** California (State) */
-        CA("US-CA", "California", "State"),
-        /** Colorado (State) */
-        CO("US-CO", "Colorado", "State"),
-        /** Connecticut (State) */
-        CT("US-CT", "Connecticut", "State"),
-        /** Delaware (State) */
-        DE("US-DE", "Delaware", "State"),
-        /** Florida (State) */
-        FL("US-FL", "Florida", "State"),
-        /** Georgia (State) */
-        GA("US-GA", "Georgia", "State"),
-        /** Hawaii (State) */
-        HI("US-HI", "Hawaii", "State"),
-        /** Idaho (State) */
-        ID("US-ID", "Idaho", "State"),
-        /** Illinois (State) */
-        IL("US-IL", "Illinois", "State"),
-        /** Indiana (State) */
-        IN("US-IN", "Indiana", "State"),
-        /** Iowa (State) */
-        IA("US-IA", "Iowa", "State"),
-        /** Kansas (State) */
-        KS("US-KS", "Kansas", "State"),
-        /** Kentucky (State) */
-        KY("US-KY", "Kentucky", "State"),
-        /** Louisiana (State) */
-        LA("US-LA", "Louisiana", "State"),
-        /** Maine (State) */
-        ME("US-ME", "Maine", "State"),
-        /** Maryland (State) */
-        MD("US-MD", "Maryland", "State"),
-        /** Massachusetts (State) */
-        MA("US-MA", "Massachusetts", "State"),
-        /** Michigan (State) */
-        MI("US-MI", "Michigan", "State"),
-        /** Minnesota (State) */
-        MN("US-MN", "Minnesota", "State"),
-        /** Mississippi (State) */
-        MS("US-MS", "Mississippi", "State"),
-        /** Missouri (State) */
-        MO("US-MO", "Missouri", "State"),
-        /** Montana (State) */
-        MT("US-MT", "Montana", "State"),
-        /** Nebraska (State) */
-        NE("US-NE", "Nebraska", "State"),
-        /** Nevada (State) */
-        NV("US-NV", "Nevada", "State"),
-        /** New Hampshire (State) */
-        NH("US-NH", "New Hampshire", "State"),
-        /** New Jersey (State) */
-        NJ("US-NJ", "New Jersey", "State"),
-        /** New Mexico (State) */
-        NM("US-NM", "New Mexico", "State"),
-        /** New York (State) */
-        NY("US-NY", "New York", "State"),
-        /** North Carolina (State) */
-        NC("US-NC", "North Carolina", "State"),
-        /** North Dakota (State) */
-        ND("US-ND", "North Dakota", "State"),
-        /** Ohio (State) */
-        OH("US-OH", "Ohio", "State"),
-        /** Oklahoma (State) */
-        OK("US-OK", "Oklahoma", "State"),
-        /** Oregon (State) */
-        OR("US-OR", "Oregon", "State"),
-        /** Pennsylvania (State) */
-        PA("US-PA", "Pennsylvania", "State"),
-        /** Rhode Island (State) */
-        RI("US-RI", "Rhode Island", "State"),
-        /** South Carolina (State) */
-        SC("US-SC", "South Carolina", "State"),
-        /** South Dakota (State) */
-        SD("US-SD", "South Dakota", "State"),
-        /** Tennessee (State) */
-        TN("US-TN", "Tennessee", "State"),
-        /** Texas (State) */
-        TX("US-TX", "Texas", "State"),
-        /** Utah (State) */
-        UT("US-UT", "Utah", "State"),
-        /** Vermont (State) */
-        VT("US-VT", "Vermont", "State"),
-        /** Virginia (State) */
-        VA("US-VA", "Virginia", "State"),
-        /** Washington (State) */
-        WA("US-WA", "Washington", "State"),
-        /** West Virginia (State) */
-        WV("US-WV", "West Virginia", "State"),
-        /** Wisconsin (State) */
-        WI("US-WI", "Wisconsin", "State"),
-        /** Wyoming (State) */
-        WY("US-WY", "Wyoming", "State"),
-        /** District of Columbia (District) */
-        DC("US-DC", "District of Columbia", "District"),
-        /** American Samoa (Outlying area) */
-        AS("US-AS", "American Samoa", "Outlying area"),
-        /** Guam (Outlying area) */
-        GU("US-GU", "Guam", "Outlying area"),
-        /** Northern Mariana Islands (Outlying area) */
-        MP("US-MP", "Northern Mariana Islands", "Outlying area"),
-        /** Puerto Rico (Outlying area) */
-        PR("US-PR", "Puerto Rico", "Outlying area"),
-        /** United States Minor Outlying Islands (Outlying area) */
-        UM("US-UM", "United States Minor Outlying Islands", "Outlying area"),
-        /** Virgin Islands, U.S. (Outlying area) */
-        VI("US-VI", "Virgin Islands, U.S.", "Outlying area");
-
-        private final String code;
-        private final String name;
-        private final String category;
-
-        US(String code, String name, String category) {
-            this.code = code;
-            this.name = name;
-            this.category = category;
-        }
-
-        @Override
-        public String getCode() {
-            return code;
-        }
-
-        @Override
-        public String getSubdivisionName() {
-            return name;
-        }
-
-        @Override
-        public String getCategory() {
-            return category;
-        }
-
-        /**
-         * Returns the subdivision for the given code.
-         *
-         * @param code the ISO-3166-2 code or subdivision code part.
-         * @return the subdivision.
-         * @throws IllegalArgumentException if no subdivision is found for the given code.
-         */
-        public static US fromCode(String code) {
-            return SubdivisionCode.fromCode(values(), code);
-        }
-
-        /**
-         * Returns the subdivision for the given name.
-         *
-         * @param name the subdivision name.
-         * @return an Optional containing the subdivision if found, or empty otherwise.
-         */
-        public static Optional<Subdivision> fromName(String name) {
-            return SubdivisionCode.fromName(values(), name);
-        }
-
-        /**
-         * Returns the subdivision for the given value, searching by code or name.
-         *
-         * @param value the code or name.
-         * @return an Optional containing the subdivision if found, or empty otherwise.
-         */
-        public static Optional<Subdivision> find(String value) {
-            return SubdivisionCode.find(values(), value);
-        }
-
-        /**
-         * Returns the US states.
-         *
-         * @return an array of states.
-         */
-        public static Subdivision[] getStates() {
-            return SubdivisionCode.getByCategory(values(), "State");
-        }
-
-        /**
-         * Returns the US districts.
-         *
-         * @return an array of districts.
-         */
-        public static Subdivision[] getDistricts() {
-            return SubdivisionCode.getByCategory(values(), "District");
-        }
-
-        /**
-         * Returns the US outlying areas.
-         *
-         * @return an array of outlying areas.
-         */
-        public static Subdivision[] getOutlyingAreas() {
-            return SubdivisionCode.getByCategory(values(), "Outlying area");
-        }
-    }
-
-    private static Subdivision[] allValues() {
-        return Stream.of(AU.values(), BR.values(), CA.values(), IE.values(), IT.values(), MX.values(), NZ.values(), US.values())
-                .flatMap(Arrays::stream)
-                .toArray(Subdivision[]::new);
-    }
-
-    /**
-     * Gets subdivisions by country code.
-     *
-     * @param code the country code.
-     * @return an array of subdivisions for the country, or null if not supported.
-     */
-    public static Subdivision[] getSubdivisions(CountryCode code) {
-        if (code == null) return null;
-        return switch (code) {
-            case AU -> AU.values();
-            case BR -> BR.values();
-            case CA -> CA.values();
-            case IE -> IE.values();
-            case IT -> IT.values();
-            case MX -> MX.values();
-            case NZ -> NZ.values();
-            case US -> US.values();
-            default -> null;
-        };
-    }
-
-    /**
-     * Gets a subdivision by its ISO-3166-2 code.
-     *
-     * @param code the ISO-3166-2 code (e.g., "US-AL").
-     * @return the subdivision.
-     * @throws IllegalArgumentException if the code is invalid or not supported.
-     */
-    public static Subdivision fromCode(String code) {
-        return fromCode(allValues(), code);
-    }
-
-    /**
-     * Returns the subdivision for the given name.
-     *
-     * @param name the subdivision name.
-     * @return an Optional containing the subdivision if found, or empty otherwise.
-     */
-    public static Optional<Subdivision> fromName(String name) {
-        return fromName(allValues(), name);
-    }
-
-    /**
-     * Returns the subdivision for the given value, searching by code or name across all countries.
-     *
-     * @param value the code or name.
-     * @return an Optional containing the subdivision if found, or empty otherwise.
-     */
-    public static Optional<Subdivision> find(String value) {
-        return find(allValues(), value);
-    }
-
-    /**
-     * Returns all states across supported countries.
-     *
-     * @return an array of states.
-     */
-    public static Subdivision[] getStates() {
-        return getByCategory(allValues(), "state");
-    }
-
-    /**
-     * Returns all regions across supported countries.
-     *
-     * @return an array of regions.
-     */
-    public static Subdivision[] getRegions() {
-        return getByCategory(allValues(), "region");
-    }
-
-    /**
-     * Returns all provinces across supported countries.
-     *
-     * @return an array of provinces.
-     */
-    public static Subdivision[] getProvinces() {
-        return getByCategory(allValues(), "province");
-    }
-
-    /**
-     * Returns all counties across supported countries.
-     *
-     * @return an array of counties.
-     */
-    public static Subdivision[] getCounties() {
-        return getByCategory(allValues(), "county");
-    }
-
-    /**
-     * Returns the subdivisions for the given parent across all countries.
-     *
-     * @param parent the parent subdivision.
-     * @return an array of subdivisions belonging to the parent.
-     */
-    public static Subdivision[] getByParent(Subdivision parent) {
-        return getByParent(allValues(), parent);
-    }
-}
@@ -0,0 +1,303 @@
+package dev.marcosalmeida.i18n;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Streaming normalizer that rewrites one column of a delimited (CSV, TSV, ...) file to canonical
+ * ISO-3166-2 codes.
+ *
+ * <p>
+ * Each record is read, the configured column is resolved with {@link SubdivisionCode#find(String)}
+ * (or another resolver, e.g. {@code SubdivisionCode.US::find}) and replaced by
+ * {@link Subdivision#getCode()}. Records whose column does not resolve, or that have too few
+ * columns, are written unchanged to a separate reject output. Input is consumed in fixed-size
+ * chunks and only the current record is held in memory, so files of any size are processed in
+ * constant memory.
+ * </p>
+ *
+ * <p>
+ * Fields follow RFC 4180: a field may be enclosed in double quotes, in which case it can contain
+ * the delimiter, line breaks and doubled quotes. On output, fields are quoted only when needed.
+ * </p>
+ *
+ * <p>
+ * The class can also be run from the command line:
+ * </p>
+ * <pre>
+ * java dev.marcosalmeida.i18n.SubdivisionColumnNormalizer &lt;input&gt; &lt;output&gt; &lt;rejects&gt; &lt;column&gt; [delimiter] [--header]
+ * </pre>
+ */
+public final class SubdivisionColumnNormalizer {
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private final char delimiter;
+    private final int column;
+    private final boolean header;
+    private final Function<String, Optional<Subdivision>> resolver;
+
+    /**
+     * Creates a normalizer resolving values across all countries with {@link SubdivisionCode#find(String)}.
+     *
+     * @param delimiter the field delimiter (e.g., {@code ','} or {@code '\t'}).
+     * @param column    the zero-based index of the column to normalize.
+     * @param header    whether the first record is a header, copied as-is to both outputs.
+     */
+    public SubdivisionColumnNormalizer(char delimiter, int column, boolean header) {
+        this(delimiter, column, header, SubdivisionCode::find);
+    }
+
+    /**
+     * Creates a normalizer with a custom resolver, such as {@code SubdivisionCode.US::find}.
+     *
+     * @param delimiter the field delimiter (e.g., {@code ','} or {@code '\t'}).
+     * @param column    the zero-based index of the column to normalize.
+     * @param header    whether the first record is a header, copied as-is to both outputs.
+     * @param resolver  the function resolving a column value to a subdivision.
+     */
+    public SubdivisionColumnNormalizer(char delimiter, int column, boolean header,
+                                       Function<String, Optional<Subdivision>> resolver) {
+        if (delimiter == '"' || delimiter == '\r' || delimiter == '\n') {
+            throw new IllegalArgumentException("Invalid delimiter: " + delimiter);
+        }
+        if (column < 0) {
+            throw new IllegalArgumentException("Invalid column: " + column);
+        }
+        this.delimiter = delimiter;
+        this.column = column;
+        this.header = header;
+        this.resolver = Objects.requireNonNull(resolver);
+    }
+
+    /**
+     * Counts of processed records, excluding the header.
+     *
+     * @param records  the number of records read.
+     * @param rejected the number of records written to the reject output.
+     */
+    public record Stats(long records, long rejected) {
+
+        /**
+         * Returns the number of records whose column was normalized.
+         *
+         * @return the number of normalized records.
+         */
+        public long normalized() {
+            return records - rejected;
+        }
+    }
+
+    /**
+     * Normalizes a UTF-8 file.
+     *
+     * @param input   the file to read.
+     * @param output  the file receiving the normalized records.
+     * @param rejects the file receiving the records that did not resolve.
+     * @return the processing counts.
+     * @throws IOException if reading or writing fails.
+     */
+    public Stats normalize(Path input, Path output, Path rejects) throws IOException {
+        try (Reader in = Files.newBufferedReader(input, StandardCharsets.UTF_8);
+             Writer out = Files.newBufferedWriter(output, StandardCharsets.UTF_8);
+             Writer rej = Files.newBufferedWriter(rejects, StandardCharsets.UTF_8)) {
+            return normalize(in, out, rej);
+        }
+    }
+
+    /**
+     * Normalizes records read from {@code in}. The streams are not closed.
+     *
+     * @param in      the source of records.
+     * @param out     the destination of normalized records.
+     * @param rejects the destination of records that did not resolve.
+     * @return the processing counts.
+     * @throws IOException if reading or writing fails.
+     */
+    public Stats normalize(Reader in, Writer out, Writer rejects) throws IOException {
+        RecordReader reader = new RecordReader(in, delimiter);
+        List<String> fields = new ArrayList<>();
+        StringBuilder line = new StringBuilder();
+
+        if (header && reader.next(fields)) {
+            writeRecord(fields, line);
+            out.append(line);
+            rejects.append(line);
+        }
+
+        long records = 0;
+        long rejected = 0;
+        while (reader.next(fields)) {
+            records++;
+            Optional<Subdivision> subdivision = fields.size() > column
+                    ? resolver.apply(fields.get(column))
+                    : Optional.empty();
+            if (subdivision.isPresent()) {
+                fields.set(column, subdivision.get().getCode());
+                writeRecord(fields, line);
+                out.append(line);
+            } else {
+                writeRecord(fields, line);
+                rejects.append(line);
+                rejected++;
+            }
+        }
+        out.flush();
+        rejects.flush();
+        return new Stats(records, rejected);
+    }
+
+    private void writeRecord(List<String> fields, StringBuilder line) {
+        line.setLength(0);
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                line.append(delimiter);
+            }
+            String field = fields.get(i);
+            if (needsQuotes(field)) {
+                line.append('"');
+                for (int j = 0; j < field.length(); j++) {
+                    char c = field.charAt(j);
+                    if (c == '"') {
+                        line.append('"');
+                    }
+                    line.append(c);
+                }
+                line.append('"');
+            } else {
+                line.append(field);
+            }
+        }
+        line.append('\n');
+    }
+
+    private boolean needsQuotes(String field) {
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == delimiter || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Splits a character stream into RFC 4180 records, refilling a fixed-size buffer as it goes.
+     */
+    private static final class RecordReader {
+        private final Reader in;
+        private final char delimiter;
+        private final char[] buffer = new char[CHUNK_SIZE];
+        private final StringBuilder field = new StringBuilder();
+        private int position;
+        private int limit;
+
+        private RecordReader(Reader in, char delimiter) {
+            this.in = in;
+            this.delimiter = delimiter;
+        }
+
+        /**
+         * Reads the next record into {@code fields}.
+         *
+         * @return {@code false} at the end of the input.
+         */
+        boolean next(List<String> fields) throws IOException {
+            fields.clear();
+            int c = read();
+            if (c < 0) {
+                return false;
+            }
+            field.setLength(0);
+            boolean quoted = false;
+            boolean inQuotes = false;
+            while (true) {
+                if (inQuotes) {
+                    if (c < 0) {
+                        throw new IOException("Unterminated quoted field");
+                    }
+                    if (c == '"') {
+                        int following = read();
+                        if (following == '"') {
+                            field.append('"');
+                        } else {
+                            inQuotes = false;
+                            c = following;
+                            continue;
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c < 0 || c == '\n') {
+                    fields.add(field.toString());
+                    return true;
+                } else if (c == '\r') {
+                    int following = read();
+                    if (following != '\n' && following >= 0) {
+                        position--;
+                    }
+                    fields.add(field.toString());
+                    return true;
+                } else if (c == delimiter) {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                    quoted = false;
+                } else if (c == '"' && field.length() == 0 && !quoted) {
+                    inQuotes = true;
+                    quoted = true;
+                } else {
+                    field.append((char) c);
+                }
+                c = read();
+            }
+        }
+
+        private int read() throws IOException {
+            if (position == limit) {
+                limit = in.read(buffer, 0, buffer.length);
+                position = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    return -1;
+                }
+            }
+            return buffer[position++];
+        }
+    }
+
+    /**
+     * Command-line entry point.
+     *
+     * @param args {@code <input> <output> <rejects> <column> [delimiter] [--header]}, where the
+     *             delimiter is a single character or {@code tab} and defaults to {@code ,}.
+     * @throws IOException if reading or writing fails.
+     */
+    public static void main(String[] args) throws IOException {
+        List<String> arguments = new ArrayList<>(List.of(args));
+        boolean header = arguments.remove("--header");
+        if (arguments.size() < 4 || arguments.size() > 5) {
+            System.err.println("Usage: SubdivisionColumnNormalizer <input> <output> <rejects> <column> [delimiter] [--header]");
+            System.exit(2);
+            return;
+        }
+        char delimiter = ',';
+        if (arguments.size() == 5) {
+            String value = arguments.get(4);
+            delimiter = value.equalsIgnoreCase("tab") || value.equals("\\t") ? '\t' : value.charAt(0);
+        }
+        SubdivisionColumnNormalizer normalizer =
+                new SubdivisionColumnNormalizer(delimiter, Integer.parseInt(arguments.get(3)), header);
+        Stats stats = normalizer.normalize(Path.of(arguments.get(0)), Path.of(arguments.get(1)), Path.of(arguments.get(2)));
+        System.err.println(stats.records() + " records, " + stats.normalized() + " normalized, "
+                + stats.rejected() + " rejected");
+    }
+}
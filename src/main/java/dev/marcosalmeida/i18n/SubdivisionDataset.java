@@ -0,0 +1,297 @@
+package dev.marcosalmeida.i18n;
+
+import com.neovisionaries.i18n.CountryCode;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Read-only access to the bundled binary subdivision dataset, covering the countries that are not
+ * implemented as {@link SubdivisionCode} enums.
+ *
+ * <p>
+ * The dataset is generated at build time by {@code SubdivisionDatasetWriter} and bundled as the
+ * {@code subdivisions.bin} resource. It is only memory-mapped when the resource is a plain file, that
+ * is with an exploded classpath; from the library jar it is read once into a heap buffer. Nothing
+ * is decoded until a country is requested; each country's subdivisions are then materialized once
+ * and cached. The global registry of {@link SubdivisionLookup} includes them after the enum
+ * constants, so every API that accepts a {@link Subdivision} accepts them too.
+ * </p>
+ *
+ * <p>Layout (big-endian):</p>
+ * <pre>
+ * header     magic (int) | version (short) | country count (short) | record count (int) | strings offset (int)
+ * countries  alpha-2 code (2 ASCII bytes) | record count (short) | first record (int)   -- sorted by code
+ * records    code (int) | name (int) | category (int) | parent record (int, -1 if none)
+ *            | aliases (int, -1 if none)                                           -- string offsets
+ * strings    length (short) | UTF-8 bytes                                               -- deduplicated
+ * </pre>
+ *
+ * <p>The aliases of a record are stored as a single string, separated by tabs.</p>
+ */
+final class SubdivisionDataset {
+
+    static final String RESOURCE = "subdivisions.bin";
+    static final int MAGIC = 0x53554244; // "SUBD"
+    static final int VERSION = 2;
+    static final int HEADER_SIZE = 16;
+    static final int COUNTRY_SIZE = 8;
+    static final int RECORD_SIZE = 20;
+
+    private static final SubdivisionDataset EMPTY = new SubdivisionDataset(emptyDataset());
+
+    private final ByteBuffer data;
+    private final int countryCount;
+    private final int recordsOffset;
+    private final int stringsOffset;
+    /** Directory slot + 1 of each country, at {@code (first letter - 'A') * 26 + (second letter - 'A')}. */
+    private final short[] slots = new short[26 * 26];
+    private final AtomicReferenceArray<Subdivision[]> countries;
+    private final AtomicReferenceArray<SubdivisionIndex<Subdivision>> indexes;
+
+    /**
+     * Wraps an encoded dataset.
+     *
+     * @param data the encoded dataset.
+     * @throws IllegalStateException if the data is not a supported dataset.
+     */
+    SubdivisionDataset(ByteBuffer data) {
+        if (data.limit() < HEADER_SIZE || data.getInt(0) != MAGIC || data.getShort(4) != VERSION) {
+            throw new IllegalStateException("Unsupported subdivision dataset");
+        }
+        this.data = data;
+        this.countryCount = data.getShort(6) & 0xFFFF;
+        this.recordsOffset = HEADER_SIZE + countryCount * COUNTRY_SIZE;
+        this.stringsOffset = data.getInt(12);
+        this.countries = new AtomicReferenceArray<>(countryCount);
+        this.indexes = new AtomicReferenceArray<>(countryCount);
+        for (int slot = 0; slot < countryCount; slot++) {
+            int entry = HEADER_SIZE + slot * COUNTRY_SIZE;
+            int key = alpha2Key(data.get(entry), data.get(entry + 1));
+            if (key >= 0) {
+                slots[key] = (short) (slot + 1);
+            }
+        }
+    }
+
+    /**
+     * Returns the bundled dataset, loading it on first use.
+     *
+     * @return the bundled dataset, empty if the resource is missing.
+     */
+    static SubdivisionDataset bundled() {
+        return Bundled.INSTANCE;
+    }
+
+    /**
+     * Lazy holder, so the resource is only opened when a dataset country is first requested.
+     */
+    private static final class Bundled {
+        private static final SubdivisionDataset INSTANCE = load();
+
+        private static SubdivisionDataset load() {
+            URL url = SubdivisionDataset.class.getResource(RESOURCE);
+            if (url == null) {
+                return EMPTY;
+            }
+            try {
+                if ("file".equals(url.getProtocol())) {
+                    try (FileChannel channel = FileChannel.open(Path.of(url.toURI()), StandardOpenOption.READ)) {
+                        return new SubdivisionDataset(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+                    }
+                }
+                try (InputStream in = url.openStream()) {
+                    return new SubdivisionDataset(ByteBuffer.wrap(in.readAllBytes()));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot read subdivision dataset " + url, e);
+            } catch (URISyntaxException e) {
+                throw new IllegalStateException("Cannot read subdivision dataset " + url, e);
+            }
+        }
+    }
+
+    /**
+     * Returns the countries covered by the dataset.
+     *
+     * @return the countries, in alpha-2 code order.
+     */
+    List<CountryCode> countries() {
+        List<CountryCode> covered = new ArrayList<>(countryCount);
+        for (int slot = 0; slot < countryCount; slot++) {
+            int entry = HEADER_SIZE + slot * COUNTRY_SIZE;
+            String alpha2 = new String(new byte[] {data.get(entry), data.get(entry + 1)}, StandardCharsets.US_ASCII);
+            CountryCode country = CountryCode.getByAlpha2Code(alpha2);
+            if (country != null) {
+                covered.add(country);
+            }
+        }
+        return covered;
+    }
+
+    /**
+     * Returns the subdivisions of the given country.
+     *
+     * <p>The returned array is shared and MUST NOT be modified or handed out to callers.</p>
+     *
+     * @param country the country.
+     * @return the subdivisions of the country, in dataset order, or {@code null} if the dataset does
+     *         not cover the country.
+     */
+    Subdivision[] subdivisions(CountryCode country) {
+        int slot = country == null ? -1 : findCountry(country.getAlpha2());
+        return slot < 0 ? null : subdivisions(slot);
+    }
+
+    /**
+     * Returns the lookup index over the subdivisions of the given country, built on first request.
+     *
+     * @param country the country.
+     * @return the index of the country, or {@code null} if the dataset does not cover the country.
+     */
+    SubdivisionIndex<Subdivision> index(CountryCode country) {
+        int slot = country == null ? -1 : findCountry(country.getAlpha2());
+        if (slot < 0) {
+            return null;
+        }
+        SubdivisionIndex<Subdivision> index = indexes.get(slot);
+        if (index == null) {
+            index = new SubdivisionIndex<>(subdivisions(slot));
+            if (!indexes.compareAndSet(slot, null, index)) {
+                index = indexes.get(slot);
+            }
+        }
+        return index;
+    }
+
+    private Subdivision[] subdivisions(int slot) {
+        Subdivision[] subdivisions = countries.get(slot);
+        if (subdivisions == null) {
+            subdivisions = materialize(slot);
+            if (!countries.compareAndSet(slot, null, subdivisions)) {
+                subdivisions = countries.get(slot);
+            }
+        }
+        return subdivisions;
+    }
+
+    private int findCountry(String alpha2) {
+        int key = alpha2Key(alpha2.charAt(0), alpha2.charAt(1));
+        return key < 0 ? -1 : slots[key] - 1;
+    }
+
+    private static int alpha2Key(int first, int second) {
+        if (first < 'A' || first > 'Z' || second < 'A' || second > 'Z') {
+            return -1;
+        }
+        return (first - 'A') * 26 + (second - 'A');
+    }
+
+    private Subdivision[] materialize(int slot) {
+        int entry = HEADER_SIZE + slot * COUNTRY_SIZE;
+        int count = data.getShort(entry + 2) & 0xFFFF;
+        int first = data.getInt(entry + 4);
+
+        Entry[] entries = new Entry[count];
+        for (int i = 0; i < count; i++) {
+            int record = recordsOffset + (first + i) * RECORD_SIZE;
+            int aliases = data.getInt(record + 16);
+            entries[i] = new Entry(string(data.getInt(record)), string(data.getInt(record + 4)),
+                    string(data.getInt(record + 8)), aliases < 0 ? List.of() : List.of(string(aliases).split("\t")));
+        }
+        for (int i = 0; i < count; i++) {
+            int parent = data.getInt(recordsOffset + (first + i) * RECORD_SIZE + 12);
+            if (parent >= 0) {
+                entries[i].parent = entries[parent - first];
+            }
+        }
+        return entries;
+    }
+
+    private String string(int offset) {
+        int position = stringsOffset + offset;
+        int length = data.getShort(position) & 0xFFFF;
+        byte[] bytes = new byte[length];
+        data.get(position + 2, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static ByteBuffer emptyDataset() {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE);
+        buffer.putInt(MAGIC).putShort((short) VERSION).putShort((short) 0).putInt(0).putInt(HEADER_SIZE);
+        return buffer.flip();
+    }
+
+    /**
+     * A subdivision decoded from the dataset. Instances are canonical per dataset, so identity
+     * equality is sufficient.
+     */
+    private static final class Entry implements Subdivision {
+        private final String code;
+        private final int id;
+        private final String name;
+        private final String category;
+        private final List<String> aliases;
+        // Only assigned while materializing, before the country is published
+        private Subdivision parent;
+
+        private Entry(String code, String name, String category, List<String> aliases) {
+            this.code = code;
+            this.id = SubdivisionKeys.idOf(code);
+            this.name = name;
+            this.category = category;
+            this.aliases = aliases;
+        }
+
+        @Override
+        public String getCode() {
+            return code;
+        }
+
+        @Override
+        public int getId() {
+            return id;
+        }
+
+        @Override
+        public String getSubdivisionName() {
+            return name;
+        }
+
+        @Override
+        public String getCategory() {
+            return category;
+        }
+
+        @Override
+        public List<String> getAliases() {
+            return aliases;
+        }
+
+        @Override
+        public String getSubdivisionCode() {
+            return code.substring(code.indexOf('-') + 1);
+        }
+
+        @Override
+        public Optional<Subdivision> getParent() {
+            return Optional.ofNullable(parent);
+        }
+
+        @Override
+        public String toString() {
+            return code;
+        }
+    }
+}
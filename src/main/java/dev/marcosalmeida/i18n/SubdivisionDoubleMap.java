@@ -0,0 +1,198 @@
+package dev.marcosalmeida.i18n;
+
+import java.util.Arrays;
+import java.util.function.ObjDoubleConsumer;
+
+/**
+ * A map from subdivisions to primitive {@code double} values, spanning every country in
+ * {@link SubdivisionCode}.
+ *
+ * <p>
+ * Values are stored unboxed in a flat {@code double[]} indexed by the position of each subdivision in
+ * the global registry, with key presence tracked in a bit vector, so hot aggregation loops
+ * (e.g., {@link #addTo(Subdivision, double)}) neither hash nor box. Absent keys read as {@code 0.0}.
+ * </p>
+ *
+ * <p>
+ * Only subdivisions registered in {@link SubdivisionCode} can be used as keys. This class is not
+ * thread-safe.
+ * </p>
+ */
+public final class SubdivisionDoubleMap {
+
+    private final double[] values;
+    private final long[] present;
+    private int size;
+
+    /**
+     * Creates an empty map.
+     */
+    public SubdivisionDoubleMap() {
+        int universe = SubdivisionCode.registrySize();
+        this.values = new double[universe];
+        this.present = new long[(universe + 63) >>> 6];
+    }
+
+    /**
+     * Returns the number of mapped subdivisions.
+     *
+     * @return the number of mappings.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether this map has no mappings.
+     *
+     * @return {@code true} if the map is empty.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns whether the given subdivision is mapped.
+     *
+     * @param key the subdivision.
+     * @return {@code true} if a value is mapped to the subdivision.
+     */
+    public boolean containsKey(Subdivision key) {
+        int ordinal = SubdivisionCode.ordinal(key);
+        return ordinal >= 0 && isPresent(ordinal);
+    }
+
+    /**
+     * Returns the value mapped to the given subdivision.
+     *
+     * @param key the subdivision.
+     * @return the mapped value, or {@code 0.0} if there is none.
+     */
+    public double get(Subdivision key) {
+        return getOrDefault(key, 0.0);
+    }
+
+    /**
+     * Returns the value mapped to the given subdivision, or the given default.
+     *
+     * @param key          the subdivision.
+     * @param defaultValue the value to return when the subdivision is not mapped.
+     * @return the mapped value, or {@code defaultValue} if there is none.
+     */
+    public double getOrDefault(Subdivision key, double defaultValue) {
+        int ordinal = SubdivisionCode.ordinal(key);
+        return ordinal >= 0 && isPresent(ordinal) ? values[ordinal] : defaultValue;
+    }
+
+    /**
+     * Maps the given subdivision to the given value.
+     *
+     * @param key   the subdivision.
+     * @param value the value.
+     * @return the previously mapped value, or {@code 0.0} if there was none.
+     * @throws IllegalArgumentException if the subdivision is not registered in {@link SubdivisionCode}.
+     */
+    public double put(Subdivision key, double value) {
+        int ordinal = requireOrdinal(key);
+        double previous = markPresent(ordinal) ? 0.0 : values[ordinal];
+        values[ordinal] = value;
+        return previous;
+    }
+
+    /**
+     * Adds the given delta to the value mapped to the given subdivision, treating an absent
+     * mapping as {@code 0.0}.
+     *
+     * @param key   the subdivision.
+     * @param delta the amount to add.
+     * @return the new mapped value.
+     * @throws IllegalArgumentException if the subdivision is not registered in {@link SubdivisionCode}.
+     */
+    public double addTo(Subdivision key, double delta) {
+        int ordinal = requireOrdinal(key);
+        if (markPresent(ordinal)) {
+            values[ordinal] = 0.0;
+        }
+        return values[ordinal] += delta;
+    }
+
+    /**
+     * Removes the mapping of the given subdivision.
+     *
+     * @param key the subdivision.
+     * @return the previously mapped value, or {@code 0.0} if there was none.
+     */
+    public double remove(Subdivision key) {
+        int ordinal = SubdivisionCode.ordinal(key);
+        if (ordinal < 0 || !isPresent(ordinal)) {
+            return 0.0;
+        }
+        present[ordinal >>> 6] &= ~(1L << ordinal);
+        size--;
+        return values[ordinal];
+    }
+
+    /**
+     * Removes all mappings.
+     */
+    public void clear() {
+        Arrays.fill(present, 0L);
+        size = 0;
+    }
+
+    /**
+     * Performs the given action for each mapping, in global registry order.
+     *
+     * @param action the action to perform.
+     */
+    public void forEach(ObjDoubleConsumer<? super Subdivision> action) {
+        for (int word = 0; word < present.length; word++) {
+            long bits = present[word];
+            while (bits != 0) {
+                int ordinal = (word << 6) + Long.numberOfTrailingZeros(bits);
+                action.accept(SubdivisionCode.byOrdinal(ordinal), values[ordinal]);
+                bits &= bits - 1;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        forEach((key, value) -> {
+            if (sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(key.getCode()).append('=').append(value);
+        });
+        return sb.append('}').toString();
+    }
+
+    private static int requireOrdinal(Subdivision key) {
+        int ordinal = SubdivisionCode.ordinal(key);
+        if (ordinal < 0) {
+            throw new IllegalArgumentException("Unsupported subdivision: " + key);
+        }
+        return ordinal;
+    }
+
+    private boolean isPresent(int ordinal) {
+        return (present[ordinal >>> 6] & (1L << ordinal)) != 0;
+    }
+
+    /**
+     * Marks the given ordinal as present.
+     *
+     * @return {@code true} if it was absent before.
+     */
+    private boolean markPresent(int ordinal) {
+        long word = present[ordinal >>> 6];
+        long bit = 1L << ordinal;
+        if ((word & bit) != 0) {
+            return false;
+        }
+        present[ordinal >>> 6] = word | bit;
+        size++;
+        return true;
+    }
+}
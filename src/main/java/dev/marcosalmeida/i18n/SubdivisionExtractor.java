@@ -0,0 +1,354 @@
+package dev.marcosalmeida.i18n;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Extractor of the subdivision mentioned in a free-text address line (e.g., "Illinois" or "IL" in
+ * "123 Main St, Springfield, IL 62704").
+ *
+ * <p>
+ * The line is tokenized once, from right to left, into runs of letters, digits, combining marks,
+ * apostrophes, hyphens and periods. Any other character than whitespace ends a phrase, so that a
+ * match never spans a comma. Going leftwards from the end of the line, the phrases of up to
+ * {@link #maxWords} tokens ending at each token are tested, longest first, against the names and
+ * aliases of the subdivisions, and then the token alone against their codes. The first match wins:
+ * addresses put the subdivision near the end, and the longest phrase prefers "West Virginia" to
+ * "Virginia". Phrase hashes are extended token by token while moving left, so each candidate costs
+ * one probe of an open-addressing table plus, on a hit, one character comparison, with no regular
+ * expression, backtracking or allocation besides the token boundaries.
+ * </p>
+ *
+ * <p>
+ * Names are compared ignoring case and diacritics, with any run of whitespace between words, and a
+ * trailing period is ignored when the word with it does not match ("Texas."). Codes must be
+ * written as in the standard, in upper case, so that words such as "in" or "me" are not taken for
+ * codes, and bare subdivision codes need two or three characters including a letter, so that house
+ * numbers and apartment letters are not either. Full codes such as "IT-25" always match.
+ * </p>
+ */
+final class SubdivisionExtractor {
+
+    /** Multiplier of the polynomial phrase hash, which is extended leftwards one character at a time. */
+    private static final long BASE = 0x100000001B3L;
+    /** Folded form of the characters below {@code FOLD.length}: lower case, without diacritics. */
+    private static final char[] FOLD = new char[0x250];
+
+    static {
+        for (char c = 0; c < FOLD.length; c++) {
+            String decomposed = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD);
+            FOLD[c] = Character.toLowerCase(decomposed.charAt(0));
+        }
+    }
+
+    private final Subdivision[] values;
+    private final Table names;
+    private final Table codes;
+    private final int maxWords;
+
+    /**
+     * Builds an extractor over the given subdivisions. When two subdivisions share a name, alias
+     * or code, the one appearing first wins, and names take precedence over aliases.
+     *
+     * @param values the subdivisions, in lookup precedence order.
+     */
+    SubdivisionExtractor(Subdivision[] values) {
+        this.values = values;
+        List<String> nameKeys = new ArrayList<>();
+        List<Integer> namePositions = new ArrayList<>();
+        for (int i = 0; i < values.length; i++) {
+            nameKeys.add(values[i].getSubdivisionName());
+            namePositions.add(i);
+        }
+        for (int i = 0; i < values.length; i++) {
+            for (String alias : values[i].getAliases()) {
+                nameKeys.add(alias);
+                namePositions.add(i);
+            }
+        }
+        this.names = new Table(nameKeys.size());
+        int words = 0;
+        int[] token = new int[3];
+        for (int i = 0; i < nameKeys.size(); i++) {
+            // Tokenized like the text, so that both sides agree on word boundaries
+            String name = nameKeys.get(i);
+            StringBuilder key = new StringBuilder();
+            int count = 0;
+            for (int cursor = name.length(); previousToken(name, cursor, token); cursor = token[0], count++) {
+                StringBuilder word = new StringBuilder();
+                for (int j = token[0]; j < token[1]; j++) {
+                    char c = fold(name.charAt(j));
+                    if (c != 0) {
+                        word.append(c);
+                    }
+                }
+                key.insert(0, count == 0 ? word : word.append(' '));
+            }
+            if (count > 0) {
+                words = Math.max(words, count);
+                names.putIfAbsent(key.toString(), hash(key), namePositions.get(i));
+            }
+        }
+        this.maxWords = words;
+
+        this.codes = new Table(values.length * 2);
+        for (int i = 0; i < values.length; i++) {
+            String code = values[i].getCode();
+            codes.putIfAbsent(code, hash(code), i);
+        }
+        for (int i = 0; i < values.length; i++) {
+            String part = values[i].getSubdivisionCode();
+            if (part.length() >= 2 && part.length() <= 3 && hasLetter(part)) {
+                codes.putIfAbsent(part, hash(part), i);
+            }
+        }
+    }
+
+    /**
+     * Returns the subdivision mentioned closest to the end of the given text.
+     *
+     * @param text the text, typically an address line.
+     * @return the subdivision and the span of its mention, or {@code null} if none is mentioned.
+     */
+    SubdivisionSpan extract(CharSequence text) {
+        if (maxWords == 0) {
+            return null;
+        }
+        // Tokens in the order they are found, from the end of the text: bounds and phrase number
+        int[] starts = new int[16];
+        int[] ends = new int[16];
+        int[] phrases = new int[16];
+        long[] hashes = new long[maxWords];
+        int[] token = new int[3];
+        int count = 0;
+        int cursor = text.length();
+        for (int e = 0; ; e++) {
+            // Tokenize just far enough to the left for the longest phrase ending at token e
+            while (count < e + maxWords && previousToken(text, cursor, token)) {
+                if (count == starts.length) {
+                    starts = Arrays.copyOf(starts, count * 2);
+                    ends = Arrays.copyOf(ends, count * 2);
+                    phrases = Arrays.copyOf(phrases, count * 2);
+                }
+                starts[count] = token[0];
+                ends[count] = token[1];
+                phrases[count] = count == 0 ? 0 : phrases[count - 1] + token[2];
+                cursor = token[0];
+                count++;
+            }
+            if (e >= count) {
+                return null;
+            }
+            int end = ends[e];
+            int position = matchName(text, starts, ends, phrases, count, e, end, hashes);
+            if (position < 0 && text.charAt(end - 1) == '.' && end - 1 > starts[e]) {
+                end--;
+                position = matchName(text, starts, ends, phrases, count, e, end, hashes);
+            }
+            if (position >= 0) {
+                return new SubdivisionSpan(values[position & 0xFFFFFF], starts[e + (position >>> 24)], end);
+            }
+            end = ends[e];
+            position = codes.get(hash(text, starts[e], end, false), text, starts, ends, e, e, end, false);
+            if (position >= 0) {
+                return new SubdivisionSpan(values[position], starts[e], end);
+            }
+        }
+    }
+
+    /**
+     * Tests the phrases ending at token {@code e}, longest first.
+     *
+     * @return the position of the matching subdivision, with the number of tokens before {@code e}
+     *         in the phrase in the upper 8 bits, or {@code -1} if none matches.
+     */
+    private int matchName(CharSequence text, int[] starts, int[] ends, int[] phrases, int count, int e, int end,
+                          long[] hashes) {
+        long h = 0;
+        long power = 1;
+        int n = 0;
+        for (int k = e; k < count && k < e + maxWords && phrases[k] == phrases[e]; k++) {
+            if (k > e) {
+                h += ' ' * power;
+                power *= BASE;
+            }
+            for (int i = (k == e ? end : ends[k]) - 1; i >= starts[k]; i--) {
+                char c = fold(text.charAt(i));
+                if (c != 0) {
+                    h += c * power;
+                    power *= BASE;
+                }
+            }
+            hashes[n++] = h;
+        }
+        for (int m = n - 1; m >= 0; m--) {
+            int position = names.get(hashes[m], text, starts, ends, e + m, e, end, true);
+            if (position >= 0) {
+                return m << 24 | position;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the token ending closest before {@code cursor}, trimmed of leading apostrophes, hyphens
+     * and periods and of trailing apostrophes and hyphens.
+     *
+     * @param text   the text.
+     * @param cursor the index to search before.
+     * @param token  receives the start and end of the token, and 1 if a character other than
+     *               whitespace separates it from {@code cursor}, 0 otherwise.
+     * @return whether a token was found.
+     */
+    private static boolean previousToken(CharSequence text, int cursor, int[] token) {
+        int separated = 0;
+        while (true) {
+            while (cursor > 0 && !isTokenChar(text.charAt(cursor - 1))) {
+                if (!Character.isWhitespace(text.charAt(cursor - 1))) {
+                    separated = 1;
+                }
+                cursor--;
+            }
+            if (cursor == 0) {
+                return false;
+            }
+            int end = cursor;
+            while (cursor > 0 && isTokenChar(text.charAt(cursor - 1))) {
+                cursor--;
+            }
+            int start = cursor;
+            while (start < end && isPunctuation(text.charAt(start))) {
+                start++;
+            }
+            while (end > start && isPunctuation(text.charAt(end - 1)) && text.charAt(end - 1) != '.') {
+                end--;
+            }
+            if (start < end) {
+                token[0] = start;
+                token[1] = end;
+                token[2] = separated;
+                return true;
+            }
+            // Punctuation alone, as in "São Paulo - SP", separates phrases
+            separated = 1;
+        }
+    }
+
+    private static boolean hasLetter(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (Character.isLetter(s.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isTokenChar(char c) {
+        return Character.isLetterOrDigit(c) || isPunctuation(c) || Character.getType(c) == Character.NON_SPACING_MARK;
+    }
+
+    private static boolean isPunctuation(char c) {
+        return c == '.' || c == '-' || c == '\'' || c == '’';
+    }
+
+    /**
+     * Folds a character to lower case without diacritics, or to {@code 0} for a combining mark,
+     * which is skipped.
+     */
+    static char fold(char c) {
+        if (c < 0x80) {
+            return c >= 'A' && c <= 'Z' ? (char) (c + 0x20) : c;
+        }
+        if (c < FOLD.length) {
+            return FOLD[c];
+        }
+        if (c == '’') {
+            return '\'';
+        }
+        return Character.getType(c) == Character.NON_SPACING_MARK ? 0 : Character.toLowerCase(c);
+    }
+
+    private static long hash(CharSequence key) {
+        return hash(key, 0, key.length(), false);
+    }
+
+    private static long hash(CharSequence text, int start, int end, boolean fold) {
+        long h = 0;
+        long power = 1;
+        for (int i = end - 1; i >= start; i--) {
+            char c = fold ? fold(text.charAt(i)) : text.charAt(i);
+            if (c != 0) {
+                h += c * power;
+                power *= BASE;
+            }
+        }
+        return h;
+    }
+
+    /**
+     * Open-addressing table from phrase keys to subdivision positions.
+     */
+    private static final class Table {
+        private final long[] hashes;
+        private final String[] keys;
+        private final int[] positions;
+        private final int mask;
+
+        Table(int expected) {
+            int capacity = Integer.highestOneBit(Math.max(4, expected * 2) - 1) << 1;
+            this.mask = capacity - 1;
+            this.hashes = new long[capacity];
+            this.keys = new String[capacity];
+            this.positions = new int[capacity];
+            Arrays.fill(positions, -1);
+        }
+
+        void putIfAbsent(String key, long hash, int position) {
+            int slot = SubdivisionKeys.mix(hash) & mask;
+            while (positions[slot] != -1) {
+                if (hashes[slot] == hash && keys[slot].equals(key)) {
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            hashes[slot] = hash;
+            keys[slot] = key;
+            positions[slot] = position;
+        }
+
+        /**
+         * Returns the position of the phrase made of tokens {@code first} down to {@code last}, the
+         * last one ending at {@code end}, or {@code -1} if it is not in the table.
+         */
+        int get(long hash, CharSequence text, int[] starts, int[] ends, int first, int last, int end, boolean fold) {
+            int slot = SubdivisionKeys.mix(hash) & mask;
+            int position;
+            while ((position = positions[slot]) != -1) {
+                if (hashes[slot] == hash && equals(keys[slot], text, starts, ends, first, last, end, fold)) {
+                    return position;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+
+        private static boolean equals(String key, CharSequence text, int[] starts, int[] ends, int first, int last,
+                                      int end, boolean fold) {
+            int j = 0;
+            for (int k = first; k >= last; k--) {
+                if (k < first && (j == key.length() || key.charAt(j++) != ' ')) {
+                    return false;
+                }
+                for (int i = starts[k], tokenEnd = k == last ? end : ends[k]; i < tokenEnd; i++) {
+                    char c = fold ? fold(text.charAt(i)) : text.charAt(i);
+                    if (c != 0 && (j == key.length() || key.charAt(j++) != c)) {
+                        return false;
+                    }
+                }
+            }
+            return j == key.length();
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package dev.marcosalmeida.i18n;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Symmetric delete index answering approximate string matches within a small edit distance.
+ *
+ * <p>
+ * Every key is indexed under the strings obtained by deleting up to {@link #MAX_DISTANCE}
+ * characters from its first {@value #PREFIX_LENGTH} characters. Two strings within edit distance
+ * {@code k} share such a deletion of at most {@code k} characters each (a substitution or
+ * transposition becomes one deletion on both sides), so a query only generates the deletions of its
+ * own prefix and looks them up, instead of comparing against every key. The candidates are then
+ * confirmed with the optimal string alignment distance, which counts insertions, deletions,
+ * substitutions and transpositions of adjacent characters as one edit each.
+ * </p>
+ *
+ * <p>
+ * Keys are expected to be normalized by the caller. The index is immutable once built.
+ * </p>
+ */
+final class SubdivisionFuzzyIndex {
+
+    /** Largest edit distance a query can ask for. */
+    static final int MAX_DISTANCE = 2;
+    /** Number of leading characters whose deletions are indexed, bounding the index size. */
+    private static final int PREFIX_LENGTH = 8;
+
+    private final String[] keys;
+    private final Map<String, int[]> deletions;
+
+    /**
+     * Builds an index over the given keys.
+     *
+     * @param keys the keys, whose positions are returned by {@link #search(String, int)}.
+     */
+    SubdivisionFuzzyIndex(String[] keys) {
+        this.keys = keys;
+        Map<String, int[]> deletions = new HashMap<>();
+        for (int position = 0; position < keys.length; position++) {
+            for (String deletion : deletions(keys[position], MAX_DISTANCE)) {
+                int[] positions = deletions.get(deletion);
+                if (positions == null) {
+                    deletions.put(deletion, new int[] {position});
+                } else if (positions[positions.length - 1] != position) {
+                    positions = Arrays.copyOf(positions, positions.length + 1);
+                    positions[positions.length - 1] = position;
+                    deletions.put(deletion, positions);
+                }
+            }
+        }
+        this.deletions = deletions;
+    }
+
+    /**
+     * Returns the keys within the given edit distance of a query.
+     *
+     * @param query       the normalized query.
+     * @param maxDistance the largest edit distance to accept, at most {@link #MAX_DISTANCE}.
+     * @return the matches, each as {@code distance << 32 | position}, sorted by distance and then by
+     *         position.
+     */
+    long[] search(String query, int maxDistance) {
+        BitSet seen = new BitSet(keys.length);
+        long[] matches = new long[8];
+        int count = 0;
+        for (String deletion : deletions(query, maxDistance)) {
+            int[] positions = deletions.get(deletion);
+            if (positions == null) {
+                continue;
+            }
+            for (int position : positions) {
+                if (seen.get(position)) {
+                    continue;
+                }
+                seen.set(position);
+                int distance = distance(query, keys[position], maxDistance);
+                if (distance <= maxDistance) {
+                    if (count == matches.length) {
+                        matches = Arrays.copyOf(matches, count * 2);
+                    }
+                    matches[count++] = (long) distance << 32 | position;
+                }
+            }
+        }
+        matches = Arrays.copyOf(matches, count);
+        Arrays.sort(matches);
+        return matches;
+    }
+
+    /**
+     * Returns the prefix of a string and every string obtained by deleting up to {@code depth}
+     * characters from it.
+     */
+    private static Set<String> deletions(String s, int depth) {
+        Set<String> deletions = new HashSet<>();
+        String prefix = s.length() > PREFIX_LENGTH ? s.substring(0, PREFIX_LENGTH) : s;
+        deletions.add(prefix);
+        addDeletions(prefix, depth, deletions);
+        return deletions;
+    }
+
+    private static void addDeletions(String s, int depth, Set<String> deletions) {
+        if (depth == 0) {
+            return;
+        }
+        for (int i = 0; i < s.length(); i++) {
+            String deletion = s.substring(0, i) + s.substring(i + 1);
+            if (deletions.add(deletion)) {
+                addDeletions(deletion, depth - 1, deletions);
+            }
+        }
+    }
+
+    /**
+     * Returns the optimal string alignment distance between two strings, or {@code max + 1} as soon
+     * as it is known to exceed {@code max}.
+     *
+     * @param a   the first string.
+     * @param b   the second string.
+     * @param max the largest distance of interest.
+     * @return the distance, capped at {@code max + 1}.
+     */
+    static int distance(String a, String b, int max) {
+        int n = a.length();
+        int m = b.length();
+        if (Math.abs(n - m) > max) {
+            return max + 1;
+        }
+        // Three rows of the dynamic programming table: two back, previous and current
+        int[] twoBack = new int[m + 1];
+        int[] previous = new int[m + 1];
+        int[] current = new int[m + 1];
+        for (int j = 0; j <= m; j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= n; i++) {
+            current[0] = i;
+            int best = i;
+            char ca = a.charAt(i - 1);
+            for (int j = 1; j <= m; j++) {
+                char cb = b.charAt(j - 1);
+                int cost = ca == cb ? 0 : 1;
+                int d = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && ca == b.charAt(j - 2) && a.charAt(i - 2) == cb) {
+                    d = Math.min(d, twoBack[j - 2] + 1);
+                }
+                current[j] = d;
+                best = Math.min(best, d);
+            }
+            if (best > max) {
+                return max + 1;
+            }
+            int[] recycled = twoBack;
+            twoBack = previous;
+            previous = current;
+            current = recycled;
+        }
+        return Math.min(previous[m], max + 1);
+    }
+}
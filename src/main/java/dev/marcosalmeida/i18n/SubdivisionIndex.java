@@ -0,0 +1,517 @@
+package dev.marcosalmeida.i18n;
+
+import java.nio.ByteBuffer;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Precomputed, read-only lookup tables over a fixed set of subdivisions.
+ *
+ * <p>
+ * Each index is built once (typically during class initialization of a country enum) and never
+ * modified afterwards, so it can be shared freely between threads. Only the code perfect hash of a
+ * generated enum is searched for at build time; the other tables below are built from the
+ * constants in a single pass when the index is created. Code lookups go through an
+ * {@linkplain SubdivisionPerfectHash minimal perfect hash} keyed by both the full ISO-3166-2 code
+ * (e.g., "US-AL") and the subdivision code part (e.g., "AL"), compared case-insensitively without
+ * allocating, so every lookup is a single probe. Codes are keyed by their folded characters packed
+ * into a {@code long}, which also makes the final comparison a single instruction; keys of a length
+ * no code has are rejected before any hashing. Name lookups go through a hash map keyed by
+ * {@linkplain #normalizeName(String) normalized} names and
+ * {@linkplain Subdivision#getAliases() aliases}, so that "Sao Paulo" and "SÃO PAULO" both resolve
+ * to "São Paulo" and "Calif." to "California"; the same normalized names, aliases and codes are
+ * also kept sorted, for prefix searches by binary search. Category groupings and
+ * parent-to-children adjacency are precomputed as immutable lists.
+ * </p>
+ *
+ * @param <T> the subdivision type.
+ */
+final class SubdivisionIndex<T extends Subdivision> {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private final T[] values;
+    private final SubdivisionPerfectHash codeHash;
+    private final long[] codeBits;
+    private final String[] codeKeys;
+    private final int[] codePositions;
+    /** Bit {@code n} is set when a code has {@code n} characters, bit 63 for 63 or more. */
+    private final long codeLengths;
+    private final int mask;
+    private final int[] idKeys;
+    private final int[] idPositions;
+    private final Map<String, T> byName;
+    /** Normalized names of the values in order, then their normalized aliases. */
+    private final String[] nameKeys;
+    private final int[] namePositions;
+    private final String[] prefixKeys;
+    private final int[] prefixPositions;
+    /** Built on first use, since most indexes never answer approximate queries. */
+    private volatile SubdivisionFuzzyIndex fuzzy;
+    /** Built on first use, like {@link #fuzzy}. */
+    private volatile SubdivisionExtractor extractor;
+    private final Map<String, List<Subdivision>> byCategory;
+    private final Map<Subdivision, List<Subdivision>> byParent;
+
+    /**
+     * Builds an index over the given subdivisions.
+     *
+     * <p>
+     * When two subdivisions share a key, the one appearing first in {@code values} wins, which
+     * matches the previous behaviour of returning the first match of a linear scan. Names take
+     * precedence over aliases, so an alias never shadows the name of another subdivision.
+     * </p>
+     *
+     * <p>
+     * The code perfect hash is searched for here. It only depends on the set of codes, and the
+     * build checks that one is found for every country of the bundled dataset, the only indexes
+     * built this way outside of tests.
+     * </p>
+     *
+     * @param values the subdivisions to index, in lookup precedence order.
+     * @throws IllegalStateException if no perfect hash separates the codes.
+     */
+    SubdivisionIndex(T[] values) {
+        this(values, null, false);
+    }
+
+    /**
+     * Builds an index over the given subdivisions around a perfect hash table precomputed at build
+     * time, so that no hash function has to be searched for at runtime. The other tables are still
+     * built here.
+     *
+     * @param values   the subdivisions to index, in lookup precedence order.
+     * @param codeHash the perfect hash over the {@linkplain SubdivisionKeys#key(CharSequence, int) code keys}.
+     * @throws IllegalStateException if the table does not match the subdivisions.
+     */
+    SubdivisionIndex(T[] values, SubdivisionPerfectHash codeHash) {
+        this(values, codeHash, true);
+    }
+
+    private SubdivisionIndex(T[] values, SubdivisionPerfectHash codeHash, boolean precomputed) {
+        this.values = values;
+
+        String[] candidates = new String[values.length * 2];
+        for (int i = 0; i < values.length; i++) {
+            candidates[2 * i] = values[i].getCode();
+            candidates[2 * i + 1] = values[i].getSubdivisionCode();
+        }
+        int[] distinct = SubdivisionKeys.distinct(candidates);
+        String[] codes = new String[distinct.length];
+        int[] positions = new int[distinct.length];
+        long[] keys = new long[distinct.length];
+        int[] hashes = new int[distinct.length];
+        long lengths = 0;
+        for (int i = 0; i < distinct.length; i++) {
+            codes[i] = candidates[distinct[i]];
+            positions[i] = distinct[i] / 2;
+            keys[i] = SubdivisionKeys.key(codes[i], codes[i].length());
+            hashes[i] = SubdivisionKeys.mix(keys[i]);
+            lengths |= 1L << Math.min(codes[i].length(), 63);
+        }
+        this.codeLengths = lengths;
+        this.codeHash = precomputed ? codeHash : SubdivisionPerfectHash.build(hashes);
+        if (this.codeHash == null) {
+            throw new IllegalStateException("Colliding subdivision code hashes in " + Arrays.toString(codes));
+        }
+        this.codeBits = new long[this.codeHash.size()];
+        this.codeKeys = new String[this.codeHash.size()];
+        this.codePositions = new int[this.codeHash.size()];
+        for (int i = 0; i < keys.length; i++) {
+            int slot = slot(this.codeHash, hashes[i], codeKeys, codes);
+            codeBits[slot] = keys[i];
+            codeKeys[slot] = SubdivisionKeys.foldKey(codes[i]);
+            codePositions[slot] = positions[i];
+        }
+
+        int capacity = Integer.highestOneBit(Math.max(4, values.length * 4) - 1) << 1;
+        this.mask = capacity - 1;
+        this.idKeys = new int[capacity];
+        this.idPositions = new int[capacity];
+        Arrays.fill(idKeys, -1);
+
+        int aliasCount = 0;
+        for (T value : values) {
+            aliasCount += value.getAliases().size();
+        }
+        this.nameKeys = new String[values.length + aliasCount];
+        this.namePositions = new int[nameKeys.length];
+        for (int i = 0; i < values.length; i++) {
+            nameKeys[i] = normalizeName(values[i].getSubdivisionName());
+            namePositions[i] = i;
+        }
+        for (int i = 0, n = values.length; i < values.length; i++) {
+            for (String alias : values[i].getAliases()) {
+                nameKeys[n] = normalizeName(alias);
+                namePositions[n++] = i;
+            }
+        }
+        Map<String, T> names = new HashMap<>();
+        for (int i = 0; i < nameKeys.length; i++) {
+            names.putIfAbsent(nameKeys[i], values[namePositions[i]]);
+        }
+        this.byName = Map.copyOf(names);
+
+        Map<String, List<Subdivision>> categories = new HashMap<>();
+        Map<Subdivision, List<Subdivision>> children = new HashMap<>();
+        for (int i = 0; i < values.length; i++) {
+            T value = values[i];
+            putId(value.getId(), i);
+            categories.computeIfAbsent(categoryKey(value.getCategory()), k -> new ArrayList<>()).add(value);
+            value.getParent().ifPresent(parent -> children.computeIfAbsent(parent, k -> new ArrayList<>()).add(value));
+        }
+
+        // Normalized names, aliases and codes, sorted so that the keys sharing a prefix form one contiguous run
+        Integer[] order = new Integer[nameKeys.length + values.length * 2];
+        String[] searchable = Arrays.copyOf(nameKeys, order.length);
+        int[] searchablePositions = Arrays.copyOf(namePositions, order.length);
+        for (int i = 0, n = nameKeys.length; i < values.length; i++) {
+            searchable[n] = normalizeName(values[i].getCode());
+            searchablePositions[n++] = i;
+            searchable[n] = normalizeName(values[i].getSubdivisionCode());
+            searchablePositions[n++] = i;
+        }
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> searchable[a].compareTo(searchable[b]));
+        this.prefixKeys = new String[order.length];
+        this.prefixPositions = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            prefixKeys[i] = searchable[order[i]];
+            prefixPositions[i] = searchablePositions[order[i]];
+        }
+
+        categories.replaceAll((category, members) -> List.copyOf(members));
+        this.byCategory = Map.copyOf(categories);
+        children.replaceAll((parent, members) -> List.copyOf(members));
+        this.byParent = Map.copyOf(children);
+    }
+
+    /**
+     * Returns the indexed subdivisions, in the order they were given.
+     *
+     * <p>The returned array is shared and MUST NOT be modified or handed out to callers.</p>
+     *
+     * @return the indexed subdivisions.
+     */
+    T[] values() {
+        return values;
+    }
+
+    /**
+     * Returns the subdivision whose full code or subdivision code part matches the given key,
+     * ignoring case.
+     *
+     * @param code the full ISO-3166-2 code or the subdivision code part.
+     * @return the matching subdivision, or {@code null} if there is none.
+     */
+    T getByCode(CharSequence code) {
+        int position = positionOfCode(code);
+        return position < 0 ? null : values[position];
+    }
+
+    /**
+     * Returns the subdivision whose code matches the given US-ASCII bytes, ignoring case.
+     *
+     * @param bytes  the buffer holding the code.
+     * @param offset the index of the first byte of the code.
+     * @param length the number of bytes of the code.
+     * @return the matching subdivision, or {@code null} if there is none.
+     */
+    T getByCode(byte[] bytes, int offset, int length) {
+        if (!hasCodeLength(length)) {
+            return null;
+        }
+        long key = SubdivisionKeys.key(bytes, offset, length);
+        int slot = codeHash.slot(SubdivisionKeys.mix(key));
+        if (key == 0 || codeBits[slot] != key
+                || key < 0 && !SubdivisionKeys.equalsIgnoreCase(codeKeys[slot], bytes, offset, length)) {
+            return null;
+        }
+        return values[codePositions[slot]];
+    }
+
+    /**
+     * Returns the subdivision whose code matches the given US-ASCII bytes, ignoring case. The
+     * buffer is read with absolute gets, so its position and limit are left untouched.
+     *
+     * @param buffer the buffer holding the code.
+     * @param offset the absolute index of the first byte of the code.
+     * @param length the number of bytes of the code.
+     * @return the matching subdivision, or {@code null} if there is none.
+     */
+    T getByCode(ByteBuffer buffer, int offset, int length) {
+        if (!hasCodeLength(length)) {
+            return null;
+        }
+        long key = SubdivisionKeys.key(buffer, offset, length);
+        int slot = codeHash.slot(SubdivisionKeys.mix(key));
+        if (key == 0 || codeBits[slot] != key
+                || key < 0 && !SubdivisionKeys.equalsIgnoreCase(codeKeys[slot], buffer, offset, length)) {
+            return null;
+        }
+        return values[codePositions[slot]];
+    }
+
+    /**
+     * Returns the position of the given subdivision in {@link #values()}.
+     *
+     * @param subdivision the subdivision.
+     * @return the position of the subdivision, or {@code -1} if it is not indexed.
+     */
+    int indexOf(Subdivision subdivision) {
+        if (subdivision == null) {
+            return -1;
+        }
+        int position = positionOfCode(subdivision.getCode());
+        return position >= 0 && values[position].equals(subdivision) ? position : -1;
+    }
+
+    /**
+     * Returns the subdivision with the given {@linkplain Subdivision#getId() id}.
+     *
+     * @param id the subdivision id.
+     * @return the matching subdivision, or {@code null} if there is none.
+     */
+    T getById(int id) {
+        int slot = mix(id) & mask;
+        int key;
+        while ((key = idKeys[slot]) != -1) {
+            if (key == id) {
+                return values[idPositions[slot]];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    private int positionOfCode(CharSequence code) {
+        if (code == null) {
+            return -1;
+        }
+        int length = code.length();
+        if (!hasCodeLength(length)) {
+            return -1;
+        }
+        long key = SubdivisionKeys.key(code, length);
+        int slot = codeHash.slot(SubdivisionKeys.mix(key));
+        if (key == 0 || codeBits[slot] != key
+                || key < 0 && !SubdivisionKeys.equalsIgnoreCase(codeKeys[slot], code, length)) {
+            return -1;
+        }
+        return codePositions[slot];
+    }
+
+    private boolean hasCodeLength(int length) {
+        return (codeLengths >>> Math.min(length, 63) & 1) != 0;
+    }
+
+    /**
+     * Returns the subdivision whose name or alias matches the given name, ignoring case, diacritics
+     * and surrounding whitespace.
+     *
+     * @param name the subdivision name.
+     * @return the matching subdivision, or {@code null} if there is none.
+     */
+    T getByName(String name) {
+        if (name == null) {
+            return null;
+        }
+        return byName.get(normalizeName(name));
+    }
+
+    /**
+     * Returns the subdivision matching the given value, trying codes first and then names.
+     *
+     * @param value the code or name.
+     * @return the matching subdivision, or {@code null} if there is none or the value is blank.
+     */
+    T find(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        T subdivision = getByCode(value);
+        return subdivision != null ? subdivision : getByName(value);
+    }
+
+    /**
+     * Returns the subdivisions whose name, alias, full code or subdivision code part starts with the
+     * given prefix, ignoring case, diacritics and surrounding whitespace, for typeahead completion.
+     *
+     * <p>
+     * The matching keys are found by binary search over sorted normalized keys, so only the matches
+     * themselves are visited. Matches are ranked by how much of the key the prefix covers: exact
+     * matches first, then shorter keys, then index order. A subdivision matching several keys is
+     * returned once, at its best rank.
+     * </p>
+     *
+     * @param prefix the typed prefix.
+     * @param limit  the maximum number of subdivisions to return.
+     * @return an immutable list of at most {@code limit} matching subdivisions, best first.
+     */
+    List<Subdivision> suggest(String prefix, int limit) {
+        String key = normalizeName(prefix);
+        if (key.isEmpty() || limit == 0) {
+            return List.of();
+        }
+        int low = 0;
+        int high = prefixKeys.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (prefixKeys[middle].compareTo(key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        // Rank in the upper bits, position in the lower ones, so sorting the longs ranks the matches
+        long[] matches = new long[8];
+        int count = 0;
+        for (int i = low; i < prefixKeys.length && prefixKeys[i].startsWith(key); i++) {
+            if (count == matches.length) {
+                matches = Arrays.copyOf(matches, count * 2);
+            }
+            matches[count++] = (long) (prefixKeys[i].length() - key.length()) << 32 | prefixPositions[i];
+        }
+        Arrays.sort(matches, 0, count);
+        List<Subdivision> suggestions = new ArrayList<>(Math.min(limit, count));
+        for (int i = 0; i < count && suggestions.size() < limit; i++) {
+            T value = values[(int) matches[i]];
+            if (!suggestions.contains(value)) {
+                suggestions.add(value);
+            }
+        }
+        return List.copyOf(suggestions);
+    }
+
+    /**
+     * Returns the subdivisions whose name or alias is within the given edit distance of the given
+     * name, after both are {@linkplain #normalizeName(String) normalized}. A subdivision matching
+     * several keys is returned once, at its smallest distance.
+     *
+     * @param name        the name, possibly misspelled.
+     * @param maxDistance the largest edit distance to accept, at most
+     *                    {@value SubdivisionFuzzyIndex#MAX_DISTANCE}.
+     * @return an immutable list of the matches, closest first and then in index order.
+     */
+    List<SubdivisionMatch> findFuzzy(String name, int maxDistance) {
+        SubdivisionFuzzyIndex index = fuzzy;
+        if (index == null) {
+            // Racy but idempotent: concurrent first callers may each build an identical index
+            fuzzy = index = new SubdivisionFuzzyIndex(nameKeys);
+        }
+        long[] matches = index.search(normalizeName(name), maxDistance);
+        List<SubdivisionMatch> result = new ArrayList<>(matches.length);
+        List<T> seen = new ArrayList<>(matches.length);
+        for (long match : matches) {
+            T value = values[namePositions[(int) match]];
+            if (!seen.contains(value)) {
+                seen.add(value);
+                result.add(new SubdivisionMatch(value, (int) (match >>> 32)));
+            }
+        }
+        return List.copyOf(result);
+    }
+
+    /**
+     * Returns the subdivision mentioned closest to the end of a free-text line, by name, alias or
+     * code, as described on {@link SubdivisionExtractor}.
+     *
+     * @param text the text, typically an address line.
+     * @return the subdivision and the span of its mention, or {@code null} if none is mentioned.
+     */
+    SubdivisionSpan extract(CharSequence text) {
+        SubdivisionExtractor index = extractor;
+        if (index == null) {
+            // Racy but idempotent, like the fuzzy index
+            extractor = index = new SubdivisionExtractor(values);
+        }
+        return index.extract(text);
+    }
+
+    /**
+     * Returns the subdivisions of the given category, ignoring case.
+     *
+     * @param category the subdivision category (e.g., "state").
+     * @return an immutable list of the matching subdivisions, in index order.
+     */
+    List<Subdivision> getByCategory(String category) {
+        return byCategory.getOrDefault(categoryKey(category), List.of());
+    }
+
+    /**
+     * Returns the direct children of the given subdivision.
+     *
+     * @param parent the parent subdivision.
+     * @return an immutable list of the subdivisions whose parent is {@code parent}, in index order.
+     */
+    List<Subdivision> getByParent(Subdivision parent) {
+        return byParent.getOrDefault(parent, List.of());
+    }
+
+    /**
+     * Normalizes a subdivision name into its lookup key: surrounding whitespace is trimmed,
+     * diacritics are removed (NFD decomposition without combining marks) and the result is lower
+     * cased. Pure ASCII input skips the Unicode decomposition.
+     *
+     * @param name the name to normalize.
+     * @return the lookup key.
+     */
+    static String normalizeName(String name) {
+        String key = name.trim();
+        if (!isAscii(key)) {
+            key = COMBINING_MARKS.matcher(Normalizer.normalize(key, Normalizer.Form.NFD)).replaceAll("");
+        }
+        return key.toLowerCase(Locale.ROOT);
+    }
+
+    private static String categoryKey(String category) {
+        return category.toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isAscii(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the slot of a key, checking that the hash function is minimal and perfect for the
+     * keys, which catches precomputed tables that were generated for other subdivisions.
+     */
+    private static int slot(SubdivisionPerfectHash hash, int keyHash, String[] taken, String[] codes) {
+        int slot = hash.slot(keyHash);
+        if (hash.size() != codes.length || taken[slot] != null) {
+            throw new IllegalStateException("Subdivision hash tables do not match " + Arrays.toString(codes));
+        }
+        return slot;
+    }
+
+    private void putId(int id, int position) {
+        int slot = mix(id) & mask;
+        int existing;
+        while ((existing = idKeys[slot]) != -1) {
+            if (existing == id) {
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        idKeys[slot] = id;
+        idPositions[slot] = position;
+    }
+
+    private static int mix(int id) {
+        int h = id * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
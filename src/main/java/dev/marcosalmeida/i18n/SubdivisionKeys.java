@@ -0,0 +1,263 @@
+package dev.marcosalmeida.i18n;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Case-insensitive lookup keys of subdivision codes, as hashed by {@link SubdivisionIndex}, and the
+ * numeric ids derived from the codes.
+ *
+ * <p>
+ * Kept free of any other dependency so that the build-time code generator can compute the same
+ * keys and ids, and precompute the perfect hash tables of the generated enums, before the rest of
+ * the library is compiled.
+ * </p>
+ */
+final class SubdivisionKeys {
+
+    /** Most characters a packed code key can hold: one byte each, below a length byte. */
+    static final int PACKED_LENGTH = 7;
+
+    private SubdivisionKeys() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Returns the positions of the codes that get their own lookup key: codes equal ignoring case
+     * keep their first occurrence only.
+     *
+     * @param codes the candidate codes, in lookup precedence order.
+     * @return the positions of the distinct codes in {@code codes}, in ascending order.
+     */
+    static int[] distinct(String[] codes) {
+        Set<String> folded = new HashSet<>();
+        int[] positions = new int[codes.length];
+        int count = 0;
+        for (int i = 0; i < codes.length; i++) {
+            if (folded.add(foldKey(codes[i]))) {
+                positions[count++] = i;
+            }
+        }
+        return Arrays.copyOf(positions, count);
+    }
+
+    /**
+     * Returns the lookup key of a code, equal for codes that are equal ignoring case. Codes of up
+     * to {@value #PACKED_LENGTH} characters that fold to ASCII are packed exactly, one
+     * {@linkplain #fold(char) folded} character per byte below the length, so equal keys mean equal
+     * codes and no character comparison is needed. Other codes get a negative 64-bit FNV-1a hash,
+     * which must be confirmed by comparing the characters. An empty code gets {@code 0}, which
+     * matches nothing.
+     */
+    static long key(CharSequence s, int length) {
+        if (length > PACKED_LENGTH) {
+            return hashKey(s, length);
+        }
+        long bits = length;
+        int chars = 0;
+        for (int i = 0; i < length; i++) {
+            char c = s.charAt(i);
+            chars |= c;
+            bits = bits << 8 | c;
+        }
+        // Non-ASCII characters may still fold to ASCII ones (e.g., the Kelvin sign), one at a time
+        return chars < 0x80 ? foldPacked(bits) : foldedKey(s, length);
+    }
+
+    /**
+     * Same as {@link #key(CharSequence, int)} for US-ASCII bytes, or {@code 0} (no match) if a byte
+     * is not ASCII, since codes are plain ASCII.
+     */
+    static long key(byte[] bytes, int offset, int length) {
+        long bits = length;
+        int all = 0;
+        if (length > PACKED_LENGTH) {
+            bits = 0xCBF29CE484222325L;
+            for (int i = 0; i < length; i++) {
+                byte b = bytes[offset + i];
+                all |= b;
+                bits = (bits ^ fold((char) (b & 0xFF))) * 0x100000001B3L;
+            }
+            return all < 0 ? 0 : bits | Long.MIN_VALUE;
+        }
+        for (int i = 0; i < length; i++) {
+            byte b = bytes[offset + i];
+            all |= b;
+            bits = bits << 8 | b & 0xFF;
+        }
+        return all < 0 ? 0 : foldPacked(bits);
+    }
+
+    static long key(ByteBuffer buffer, int offset, int length) {
+        long bits = length;
+        int all = 0;
+        if (length > PACKED_LENGTH) {
+            bits = 0xCBF29CE484222325L;
+            for (int i = 0; i < length; i++) {
+                byte b = buffer.get(offset + i);
+                all |= b;
+                bits = (bits ^ fold((char) (b & 0xFF))) * 0x100000001B3L;
+            }
+            return all < 0 ? 0 : bits | Long.MIN_VALUE;
+        }
+        for (int i = 0; i < length; i++) {
+            byte b = buffer.get(offset + i);
+            all |= b;
+            bits = bits << 8 | b & 0xFF;
+        }
+        return all < 0 ? 0 : foldPacked(bits);
+    }
+
+    /**
+     * Folds every byte of a packed ASCII code at once, adding {@code 0x20} to the bytes from
+     * {@code 'A'} to {@code 'Z'}: those that reach {@code 0x80} when {@code 'A'} is raised to it,
+     * but not when {@code '['} is. No byte carries into the next one, since they are all below
+     * {@code 0x80}.
+     */
+    private static long foldPacked(long bits) {
+        long letters = (bits + 0x3F3F3F3F3F3F3F3FL) & ~(bits + 0x2525252525252525L) & 0x8080808080808080L;
+        return bits | letters >>> 2;
+    }
+
+    private static long foldedKey(CharSequence s, int length) {
+        long bits = length;
+        for (int i = 0; i < length; i++) {
+            char c = fold(s.charAt(i));
+            if (c >= 0x80) {
+                return hashKey(s, length);
+            }
+            bits = bits << 8 | c;
+        }
+        return bits;
+    }
+
+    private static long hashKey(CharSequence s, int length) {
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < length; i++) {
+            h = (h ^ fold(s.charAt(i))) * 0x100000001B3L;
+        }
+        return h | Long.MIN_VALUE;
+    }
+
+    /**
+     * Derives the stable numeric id of an ISO-3166-2 code.
+     *
+     * <p>
+     * The id only depends on the code itself: the upper bits hold the alpha-2 country code
+     * ({@code (first letter - 'A') * 26 + (second letter - 'A')}) and the lower 16 bits hold the
+     * one to three alphanumeric characters after the '-' in base 37 (0 for a missing character,
+     * 1-10 for digits, 11-36 for letters). Ids therefore never change when subdivisions are added or
+     * reordered, fit in 26 bits and are never negative. They are too wide for a {@code short}: a
+     * 16-bit id would have to be assigned by position in the registry, and would then change
+     * whenever a subdivision is inserted before another.
+     * </p>
+     *
+     * @param code the full ISO-3166-2 code (e.g., "US-AL").
+     * @return the id.
+     * @throws IllegalArgumentException if the code is not of the form {@code CC-X}, {@code CC-XX} or
+     *                                  {@code CC-XXX}.
+     */
+    static int idOf(String code) {
+        int length = code.length();
+        if (length < 4 || length > 6 || code.charAt(2) != '-') {
+            throw new IllegalArgumentException("Cannot derive an id from code: " + code);
+        }
+        int first = letter(code, 0);
+        int second = letter(code, 1);
+        int suffix = 0;
+        for (int i = 3; i < 6; i++) {
+            int digit = 0;
+            if (i < length) {
+                char c = code.charAt(i);
+                if (c >= '0' && c <= '9') {
+                    digit = 1 + c - '0';
+                } else if (c >= 'A' && c <= 'Z') {
+                    digit = 11 + c - 'A';
+                } else {
+                    throw new IllegalArgumentException("Cannot derive an id from code: " + code);
+                }
+            }
+            suffix = suffix * 37 + digit;
+        }
+        return (first * 26 + second) << 16 | suffix;
+    }
+
+    private static int letter(String code, int index) {
+        char c = code.charAt(index);
+        if (c < 'A' || c > 'Z') {
+            throw new IllegalArgumentException("Cannot derive an id from code: " + code);
+        }
+        return c - 'A';
+    }
+
+    /**
+     * Reduces a code key to the 32-bit hash fed to the perfect hash.
+     */
+    static int mix(long key) {
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32);
+    }
+
+    /**
+     * Folds every character of a code, so that keys equal ignoring case become equal.
+     */
+    static String foldKey(String code) {
+        char[] chars = new char[code.length()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = fold(code.charAt(i));
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Compares a {@linkplain #foldKey(String) folded} key with a code, ignoring case. Hashed keys
+     * of different lengths may collide, so the lengths are compared first.
+     */
+    static boolean equalsIgnoreCase(String key, CharSequence s, int length) {
+        if (key.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (key.charAt(i) != fold(s.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static boolean equalsIgnoreCase(String key, byte[] bytes, int offset, int length) {
+        if (key.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (key.charAt(i) != fold((char) bytes[offset + i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static boolean equalsIgnoreCase(String key, ByteBuffer buffer, int offset, int length) {
+        if (key.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (key.charAt(i) != fold((char) buffer.get(offset + i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Folds a character the same way {@link String#equalsIgnoreCase(String)} compares characters.
+     */
+    private static char fold(char c) {
+        if (c < 0x80) {
+            // Branch-free: adds 0x20 exactly when 'A' <= c <= 'Z', i.e. when c - 'A' and c - '[' differ in sign
+            return (char) (c + ((((c - 'A') ^ (c - 'Z' - 1)) >>> 31) << 5));
+        }
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+}
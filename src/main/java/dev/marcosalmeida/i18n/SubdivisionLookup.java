@@ -0,0 +1,792 @@
+package dev.marcosalmeida.i18n;
+
+import com.neovisionaries.i18n.CountryCode;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.Optional;
+
+/**
+ * Lookups shared by all countries, called through {@link SubdivisionCode} (e.g.,
+ * {@code SubdivisionCode.fromCode("US-AL")}).
+ *
+ * <p>
+ * {@link SubdivisionCode}, with one nested enum per country, is generated at build time from the
+ * source data and inherits the static methods declared here, which route codes and ids to a single
+ * country and answer the queries that span all countries. This class is not meant to be used
+ * directly.
+ * </p>
+ */
+public abstract sealed class SubdivisionLookup permits SubdivisionCode {
+
+    /** Index answering codes of countries that have no subdivisions. */
+    private static final SubdivisionIndex<Subdivision> NONE = new SubdivisionIndex<>(new Subdivision[0]);
+
+    /** Countries by alpha-2 code, at {@code (first letter - 'A') * 26 + (second letter - 'A')}. */
+    private static final CountryCode[] ALPHA2 = alpha2Table();
+
+    SubdivisionLookup() {
+        // Only extended by SubdivisionCode
+    }
+
+    static <T extends Subdivision> T fromCode(SubdivisionIndex<T> index, String code) {
+        if (code == null || code.isEmpty()) {
+            throw new IllegalArgumentException("Invalid subdivision code: " + code);
+        }
+        T subdivision = index.getByCode(code);
+        if (subdivision == null) {
+            throw new IllegalArgumentException("No subdivision found for code: " + code);
+        }
+        return subdivision;
+    }
+
+    static <T extends Subdivision> Optional<T> tryFromCode(SubdivisionIndex<T> index, String code) {
+        return Optional.ofNullable(index.getByCode(code));
+    }
+
+    static <T extends Subdivision> Optional<Subdivision> fromName(SubdivisionIndex<T> index, String name) {
+        if (name == null || name.isBlank()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(index.getByName(name));
+    }
+
+    static <T extends Subdivision> Optional<Subdivision> find(SubdivisionIndex<T> index, String value) {
+        return Optional.ofNullable(index.find(value));
+    }
+
+    static <T extends Subdivision> List<Subdivision> suggest(SubdivisionIndex<T> index, String prefix, int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Invalid suggestion limit: " + limit);
+        }
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        return index.suggest(prefix, limit);
+    }
+
+    static <T extends Subdivision> List<SubdivisionMatch> findFuzzy(SubdivisionIndex<T> index, String name,
+                                                                   int maxDistance) {
+        if (maxDistance < 0 || maxDistance > SubdivisionFuzzyIndex.MAX_DISTANCE) {
+            throw new IllegalArgumentException("Invalid edit distance: " + maxDistance);
+        }
+        if (name == null || name.isBlank()) {
+            return List.of();
+        }
+        return index.findFuzzy(name, maxDistance);
+    }
+
+    static <T extends Subdivision> Optional<SubdivisionSpan> extract(SubdivisionIndex<T> index, CharSequence text) {
+        return text == null ? Optional.empty() : Optional.ofNullable(index.extract(text));
+    }
+
+    static <T extends Subdivision> List<Subdivision> getByCategory(SubdivisionIndex<T> index, String category) {
+        if (category == null || category.isBlank()) {
+            return List.of();
+        }
+        return index.getByCategory(category);
+    }
+
+    static <T extends Subdivision> List<Subdivision> getByParent(SubdivisionIndex<T> index, Subdivision parent) {
+        if (parent == null) {
+            return List.of();
+        }
+        return index.getByParent(parent);
+    }
+
+    /**
+     * Lazy holder of the global registry, covering both the country enums and the countries of the
+     * bundled dataset. It is only initialized, together with every country enum and every dataset
+     * country, by queries that really span all countries (name and subdivision code part lookups,
+     * category listings, mention scans and the {@link SubdivisionSet} ordinal space). Full codes
+     * and ids are routed to a single country by {@link #countryIndex(CountryCode)} instead.
+     *
+     * <p>
+     * The country enums come first, so that they keep precedence over the dataset countries when a
+     * subdivision code part or a name is shared (e.g., "AR" stays Arkansas rather than Appenzell
+     * Ausserrhoden), and category listings only span the country enums.
+     * </p>
+     */
+    private static final class Registry {
+        /** The country enums of the global registry, in alphabetical order. */
+        private static final Class<?>[] COUNTRIES = SubdivisionCode.countries();
+
+        /** Position of the first subdivision of each of {@link #COUNTRIES} in the global registry. */
+        private static final int[] COUNTRY_OFFSETS = new int[COUNTRIES.length];
+
+        private static final SubdivisionIndex<Subdivision> INDEX =
+                new SubdivisionIndex<>(allValues(), SubdivisionCode.registryHash());
+
+        /** The category listings of {@link #getByCategory(String)}, kept so that every call returns the same list. */
+        private static final Map<String, List<Subdivision>> CATEGORIES = new ConcurrentHashMap<>();
+
+        /**
+         * Concatenates the subdivisions of every country enum, in alphabetical order, then of every
+         * dataset country, and records where each country enum starts in {@link #COUNTRY_OFFSETS}.
+         * Only called once, to build the global {@link #INDEX}; global queries reuse its internal
+         * array.
+         */
+        private static Subdivision[] allValues() {
+            List<Subdivision> all = new ArrayList<>();
+            for (int i = 0; i < COUNTRIES.length; i++) {
+                COUNTRY_OFFSETS[i] = all.size();
+                for (Object constant : COUNTRIES[i].getEnumConstants()) {
+                    all.add((Subdivision) constant);
+                }
+            }
+            SubdivisionDataset dataset = SubdivisionDataset.bundled();
+            for (CountryCode country : dataset.countries()) {
+                all.addAll(Arrays.asList(dataset.subdivisions(country)));
+            }
+            return all.toArray(new Subdivision[0]);
+        }
+
+        /**
+         * Returns the subdivisions of the given category across the country enums, which lead every
+         * category list of the {@link #INDEX}.
+         */
+        private static List<Subdivision> getByCategory(String category) {
+            return CATEGORIES.computeIfAbsent(category, c -> {
+                List<Subdivision> members = SubdivisionLookup.getByCategory(INDEX, c);
+                int end = members.size();
+                while (end > 0 && !(members.get(end - 1) instanceof Enum<?>)) {
+                    end--;
+                }
+                return end == members.size() ? members : members.subList(0, end);
+            });
+        }
+    }
+
+    /**
+     * Lazy holder of the automaton behind {@link #scan(Reader, SubdivisionMentionListener)}, so that
+     * it is only compiled by the first scan.
+     */
+    private static final class Mentions {
+        private static final SubdivisionScanner SCANNER = new SubdivisionScanner(Registry.INDEX.values());
+    }
+
+    /**
+     * Returns the index of a single country, initializing that country only.
+     *
+     * @param country the country.
+     * @return the index of the country, empty if the country is not supported.
+     */
+    private static SubdivisionIndex<? extends Subdivision> countryIndex(CountryCode country) {
+        if (country == null) {
+            return NONE;
+        }
+        SubdivisionIndex<? extends Subdivision> index = SubdivisionCode.enumIndex(country);
+        if (index == null) {
+            index = SubdivisionDataset.bundled().index(country);
+        }
+        return index == null ? NONE : index;
+    }
+
+    private static CountryCode[] alpha2Table() {
+        CountryCode[] table = new CountryCode[26 * 26];
+        for (CountryCode country : CountryCode.values()) {
+            String alpha2 = country.getAlpha2();
+            if (alpha2 != null && alpha2.length() == 2) {
+                int slot = alpha2Slot(alpha2.charAt(0), alpha2.charAt(1));
+                if (slot >= 0 && table[slot] == null) {
+                    table[slot] = country;
+                }
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Returns the {@link #ALPHA2} slot of two ASCII letters, ignoring case, or {@code -1} if either
+     * is not a letter.
+     */
+    private static int alpha2Slot(int first, int second) {
+        // Setting bit 5 lower-cases ASCII letters and maps every other character outside 'a'-'z'
+        first = (first | 0x20) - 'a';
+        second = (second | 0x20) - 'a';
+        if (first < 0 || first >= 26 || second < 0 || second >= 26) {
+            return -1;
+        }
+        return first * 26 + second;
+    }
+
+    /**
+     * Returns the index of the country with the given alpha-2 letters, ignoring case.
+     */
+    private static SubdivisionIndex<? extends Subdivision> countryIndex(int first, int second) {
+        int slot = alpha2Slot(first, second);
+        return slot < 0 ? NONE : countryIndex(ALPHA2[slot]);
+    }
+
+    /**
+     * Returns the index to resolve the given code against: the country named by the alpha-2 prefix
+     * of a full ISO-3166-2 code, found in constant time without allocating, or the global registry
+     * for a subdivision code part.
+     */
+    private static SubdivisionIndex<? extends Subdivision> indexForCode(CharSequence code) {
+        if (code == null) {
+            return NONE;
+        }
+        if (code.length() < 4 || code.charAt(2) != '-') {
+            return Registry.INDEX;
+        }
+        return countryIndex(code.charAt(0), code.charAt(1));
+    }
+
+    private static SubdivisionIndex<? extends Subdivision> indexForCode(byte[] bytes, int offset, int length) {
+        if (length < 4 || bytes[offset + 2] != '-') {
+            return Registry.INDEX;
+        }
+        return countryIndex(bytes[offset] & 0xFF, bytes[offset + 1] & 0xFF);
+    }
+
+    private static SubdivisionIndex<? extends Subdivision> indexForCode(ByteBuffer buffer, int offset, int length) {
+        if (length < 4 || buffer.get(offset + 2) != '-') {
+            return Registry.INDEX;
+        }
+        return countryIndex(buffer.get(offset) & 0xFF, buffer.get(offset + 1) & 0xFF);
+    }
+
+    /**
+     * Returns the index of the country encoded in the upper bits of a
+     * {@linkplain Subdivision#getId() subdivision id}.
+     */
+    private static SubdivisionIndex<? extends Subdivision> indexForId(int id) {
+        int country = id >>> 16;
+        return id < 0 || country >= ALPHA2.length ? NONE : countryIndex(ALPHA2[country]);
+    }
+
+    /**
+     * Resolves a value by code, then by name, returning {@code null} on a miss.
+     */
+    private static Subdivision findOrNull(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        Subdivision subdivision = indexForCode(value).getByCode(value);
+        return subdivision != null ? subdivision : Registry.INDEX.getByName(value);
+    }
+
+    /**
+     * Returns the number of subdivisions in the global registry, i.e. the size of the global
+     * ordinal space used by {@link SubdivisionSet}.
+     */
+    static int registrySize() {
+        return Registry.INDEX.values().length;
+    }
+
+    /**
+     * Returns the global ordinal of the given subdivision, or {@code -1} if it is not registered.
+     */
+    static int ordinal(Subdivision subdivision) {
+        if (subdivision instanceof Enum<?> constant) {
+            // Country enums are laid out contiguously, so no hashing is needed for them; dataset
+            // subdivisions are found by their code in the global index.
+            Class<?> country = constant.getDeclaringClass();
+            for (int i = 0; i < Registry.COUNTRIES.length; i++) {
+                if (Registry.COUNTRIES[i] == country) {
+                    return Registry.COUNTRY_OFFSETS[i] + constant.ordinal();
+                }
+            }
+        }
+        return Registry.INDEX.indexOf(subdivision);
+    }
+
+    /**
+     * Returns the subdivision with the given global ordinal.
+     */
+    static Subdivision byOrdinal(int ordinal) {
+        return Registry.INDEX.values()[ordinal];
+    }
+
+    /**
+     * Gets subdivisions by country code.
+     *
+     * <p>
+     * Countries without a nested enum are served from the bundled binary dataset, which is only
+     * loaded the first time such a country is requested.
+     * </p>
+     *
+     * @param code the country code.
+     * @return an array of subdivisions for the country, or null if not supported.
+     */
+    public static Subdivision[] getSubdivisions(CountryCode code) {
+        if (code == null) return null;
+        SubdivisionIndex<? extends Subdivision> index = SubdivisionCode.enumIndex(code);
+        Subdivision[] subdivisions = index != null ? index.values() : SubdivisionDataset.bundled().subdivisions(code);
+        return subdivisions == null ? null : subdivisions.clone();
+    }
+
+    /**
+     * Gets a subdivision by its ISO-3166-2 code.
+     *
+     * @param code the ISO-3166-2 code (e.g., "US-AL").
+     * @return the subdivision.
+     * @throws IllegalArgumentException if the code is invalid or not supported.
+     */
+    public static Subdivision fromCode(String code) {
+        return fromCode(indexForCode(code), code);
+    }
+
+    /**
+     * Returns the subdivision for the given ISO-3166-2 code, without throwing when there is no match.
+     *
+     * @param code the ISO-3166-2 code (e.g., "US-AL").
+     * @return an Optional containing the subdivision if found, or empty otherwise.
+     */
+    public static Optional<Subdivision> tryFromCode(String code) {
+        return Optional.ofNullable(indexForCode(code).getByCode(code));
+    }
+
+    /**
+     * Parses an ISO-3166-2 code (or subdivision code part) held in any {@link CharSequence}, such as
+     * a {@link StringBuilder} or a {@link java.nio.CharBuffer}, ignoring case.
+     *
+     * <p>
+     * Intended for ingestion paths: no {@code String} is materialized and nothing is allocated, which
+     * is why a miss is reported as {@code null} rather than an empty {@code Optional}.
+     * </p>
+     *
+     * @param code the code.
+     * @return the subdivision, or {@code null} if there is no match.
+     */
+    public static Subdivision parseCode(CharSequence code) {
+        return indexForCode(code).getByCode(code);
+    }
+
+    /**
+     * Parses an ISO-3166-2 code (or subdivision code part) from US-ASCII bytes, ignoring case,
+     * without allocating.
+     *
+     * @param bytes  the buffer holding the code.
+     * @param offset the index of the first byte of the code.
+     * @param length the number of bytes of the code.
+     * @return the subdivision, or {@code null} if there is no match.
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code bytes}.
+     */
+    public static Subdivision parseCode(byte[] bytes, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        return indexForCode(bytes, offset, length).getByCode(bytes, offset, length);
+    }
+
+    /**
+     * Parses an ISO-3166-2 code (or subdivision code part) from US-ASCII bytes of a buffer, ignoring
+     * case, without allocating. The bytes are read with absolute gets, so the position and limit of
+     * the buffer are left untouched.
+     *
+     * @param buffer the buffer holding the code.
+     * @param offset the absolute index of the first byte of the code.
+     * @param length the number of bytes of the code.
+     * @return the subdivision, or {@code null} if there is no match.
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the buffer's limit.
+     */
+    public static Subdivision parseCode(ByteBuffer buffer, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, buffer.limit());
+        return indexForCode(buffer, offset, length).getByCode(buffer, offset, length);
+    }
+
+    /**
+     * Resolves a batch of ISO-3166-2 codes (or subdivision code parts), ignoring case.
+     *
+     * <p>
+     * {@code out[i]} receives the subdivision for {@code codes[i]}, or {@code null} when there is no
+     * match, in which case bit {@code i} of the returned set is set. No exception or
+     * {@code Optional} is created per element, and consecutive repeats of the same {@code String}
+     * instance (common in sorted or grouped input) are resolved once.
+     * </p>
+     *
+     * @param codes the codes to resolve; {@code null} elements are misses.
+     * @param out   the array receiving the results, at least as long as {@code codes}.
+     * @return the indexes of the codes that did not resolve.
+     * @throws IllegalArgumentException if {@code out} is shorter than {@code codes}.
+     */
+    public static BitSet resolveAll(String[] codes, Subdivision[] out) {
+        return resolveAll(Arrays.asList(codes), out);
+    }
+
+    /**
+     * Resolves a batch of ISO-3166-2 codes (or subdivision code parts), ignoring case.
+     *
+     * @param codes the codes to resolve; {@code null} elements are misses.
+     * @param out   the array receiving the results, at least as long as {@code codes}.
+     * @return the indexes of the codes that did not resolve.
+     * @throws IllegalArgumentException if {@code out} is shorter than {@code codes}.
+     * @see #resolveAll(String[], Subdivision[])
+     */
+    public static BitSet resolveAll(List<String> codes, Subdivision[] out) {
+        int size = codes.size();
+        if (out.length < size) {
+            throw new IllegalArgumentException("Output array too small: " + out.length + " < " + size);
+        }
+        BitSet misses = new BitSet(size);
+        String previous = null;
+        Subdivision resolved = null;
+        int i = 0;
+        for (String code : codes) {
+            if (code != previous || i == 0) {
+                previous = code;
+                resolved = indexForCode(code).getByCode(code);
+            }
+            out[i] = resolved;
+            if (resolved == null) {
+                misses.set(i);
+            }
+            i++;
+        }
+        return misses;
+    }
+
+    /**
+     * Resolves a batch of free-text values with the semantics of {@link #find(String)} (code first,
+     * then name), in parallel on the common {@link ForkJoinPool}.
+     *
+     * @param values the values to resolve; {@code null} or blank elements are misses.
+     * @param out    the array receiving the results ({@code null} for misses), at least as long as
+     *               {@code values}.
+     * @return the number of values that did not resolve.
+     * @throws IllegalArgumentException if {@code out} is shorter than {@code values}.
+     * @see #findAll(String[], Subdivision[], ForkJoinPool)
+     */
+    public static int findAll(String[] values, Subdivision[] out) {
+        return findAll(values, out, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Resolves a batch of free-text values with the semantics of {@link #find(String)} (code first,
+     * then name), in parallel on the given {@link ForkJoinPool}.
+     *
+     * <p>
+     * The input is split recursively into chunks that are resolved sequentially, so throughput
+     * scales with the parallelism of the pool. Each element is written to the same index of
+     * {@code out}, and misses are reported as {@code null} without creating exceptions or
+     * {@code Optional}s.
+     * </p>
+     *
+     * @param values the values to resolve; {@code null} or blank elements are misses.
+     * @param out    the array receiving the results ({@code null} for misses), at least as long as
+     *               {@code values}.
+     * @param pool   the pool to run on.
+     * @return the number of values that did not resolve.
+     * @throws IllegalArgumentException if {@code out} is shorter than {@code values}.
+     */
+    public static int findAll(String[] values, Subdivision[] out, ForkJoinPool pool) {
+        if (out.length < values.length) {
+            throw new IllegalArgumentException("Output array too small: " + out.length + " < " + values.length);
+        }
+        return pool.invoke(new FindTask(values, out, 0, values.length));
+    }
+
+    /**
+     * Resolves {@code values[from, to)} into {@code out}, forking halves until chunks are small
+     * enough to resolve sequentially.
+     */
+    private static final class FindTask extends RecursiveTask<Integer> {
+        private static final int THRESHOLD = 4096;
+
+        private final String[] values;
+        private final Subdivision[] out;
+        private final int from;
+        private final int to;
+
+        private FindTask(String[] values, Subdivision[] out, int from, int to) {
+            this.values = values;
+            this.out = out;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (to - from <= THRESHOLD) {
+                int misses = 0;
+                for (int i = from; i < to; i++) {
+                    Subdivision subdivision = findOrNull(values[i]);
+                    out[i] = subdivision;
+                    if (subdivision == null) {
+                        misses++;
+                    }
+                }
+                return misses;
+            }
+            int middle = (from + to) >>> 1;
+            FindTask left = new FindTask(values, out, from, middle);
+            left.fork();
+            int right = new FindTask(values, out, middle, to).compute();
+            return left.join() + right;
+        }
+    }
+
+    /**
+     * Gets a subdivision by its {@linkplain Subdivision#getId() numeric id}.
+     *
+     * @param id the subdivision id.
+     * @return the subdivision.
+     * @throws IllegalArgumentException if no subdivision has the given id.
+     */
+    public static Subdivision byId(int id) {
+        Subdivision subdivision = indexForId(id).getById(id);
+        if (subdivision == null) {
+            throw new IllegalArgumentException("No subdivision found for id: " + id);
+        }
+        return subdivision;
+    }
+
+    /**
+     * Returns the subdivision for the given name or {@linkplain Subdivision#getAliases() alias}
+     * (e.g., "Calif.", "Lombardy" or "Distrito Federal"), in a single hash lookup. Names take
+     * precedence over aliases, and earlier countries over later ones.
+     *
+     * @param name the subdivision name or alias.
+     * @return an Optional containing the subdivision if found, or empty otherwise.
+     */
+    public static Optional<Subdivision> fromName(String name) {
+        return fromName(Registry.INDEX, name);
+    }
+
+    /**
+     * Returns the subdivision for the given name in the given locale (e.g., "Lombardie" in
+     * {@link Locale#FRENCH}), searching the translated names of the language and country of the
+     * locale, then of its language alone, then falling back to {@link #fromName(String)}. A
+     * {@code null} locale has no translated names, so it only falls back to {@link #fromName(String)}.
+     *
+     * <p>
+     * The reverse index of a locale is built on its first lookup. Translations also cover the
+     * countries served from the bundled dataset.
+     * </p>
+     *
+     * @param name   the translated subdivision name.
+     * @param locale the locale of the name, or {@code null} to only search the default names.
+     * @return an Optional containing the subdivision if found, or empty otherwise.
+     */
+    public static Optional<Subdivision> fromName(String name, Locale locale) {
+        if (name == null) {
+            return Optional.empty();
+        }
+        Subdivision subdivision = SubdivisionNames.fromName(name, locale);
+        return subdivision != null ? Optional.of(subdivision) : fromName(name);
+    }
+
+    /**
+     * Returns the subdivisions whose name or code starts with the given prefix, across all
+     * countries, for typeahead completion (e.g., "new" suggests New Hampshire, New Jersey,
+     * New Mexico, ...).
+     *
+     * <p>
+     * Matching ignores case, diacritics and surrounding whitespace, and only visits the matches
+     * themselves, so it is suitable for every keystroke. Exact matches come first, then the
+     * subdivisions whose name or code is the shortest completion of the prefix.
+     * </p>
+     *
+     * @param prefix the typed prefix.
+     * @param limit  the maximum number of suggestions.
+     * @return an immutable list of at most {@code limit} subdivisions, best first, empty if the
+     *         prefix is {@code null} or blank.
+     * @throws IllegalArgumentException if {@code limit} is negative.
+     */
+    public static List<Subdivision> suggest(String prefix, int limit) {
+        return suggest(Registry.INDEX, prefix, limit);
+    }
+
+    /**
+     * Returns the subdivisions of the given country whose name or code starts with the given
+     * prefix, for typeahead completion. Also covers the countries served from the bundled dataset.
+     *
+     * @param country the country.
+     * @param prefix  the typed prefix.
+     * @param limit   the maximum number of suggestions.
+     * @return an immutable list of at most {@code limit} subdivisions, best first, empty if the
+     *         country is not supported or the prefix is {@code null} or blank.
+     * @throws IllegalArgumentException if {@code limit} is negative.
+     * @see #suggest(String, int)
+     */
+    public static List<Subdivision> suggest(CountryCode country, String prefix, int limit) {
+        return suggest(countryIndex(country), prefix, limit);
+    }
+
+    /**
+     * Returns the subdivisions whose name is within the given edit distance of a possibly misspelled
+     * name, across all countries (e.g., "Califronia" finds California at distance 1).
+     *
+     * <p>
+     * Names are compared like {@link #fromName(String)} does, ignoring case, diacritics and
+     * surrounding whitespace. An edit is an inserted, deleted or substituted character, or two
+     * swapped adjacent characters. Candidates come from a precomputed deletion index, built on first
+     * use, so a lookup only compares the input with the few names sharing one of its deletions
+     * rather than with every name.
+     * </p>
+     *
+     * @param name        the name, possibly misspelled.
+     * @param maxDistance the largest number of edits to accept, from 0 to 2.
+     * @return an immutable list of the matches, closest first, empty if the name is {@code null} or
+     *         blank.
+     * @throws IllegalArgumentException if {@code maxDistance} is negative or greater than 2.
+     */
+    public static List<SubdivisionMatch> findFuzzy(String name, int maxDistance) {
+        return findFuzzy(Registry.INDEX, name, maxDistance);
+    }
+
+    /**
+     * Returns the subdivisions of the given country whose name is within the given edit distance of
+     * a possibly misspelled name. Also covers the countries served from the bundled dataset.
+     *
+     * @param country     the country.
+     * @param name        the name, possibly misspelled.
+     * @param maxDistance the largest number of edits to accept, from 0 to 2.
+     * @return an immutable list of the matches, closest first, empty if the country is not supported
+     *         or the name is {@code null} or blank.
+     * @throws IllegalArgumentException if {@code maxDistance} is negative or greater than 2.
+     * @see #findFuzzy(String, int)
+     */
+    public static List<SubdivisionMatch> findFuzzy(CountryCode country, String name, int maxDistance) {
+        return findFuzzy(countryIndex(country), name, maxDistance);
+    }
+
+    /**
+     * Extracts the subdivision of the given country mentioned in a free-text address line, such as
+     * Illinois in "123 Main St, Springfield, IL 62704" or Queensland in "1 George St, Brisbane
+     * Queensland 4000".
+     *
+     * <p>
+     * The line is tokenized once from right to left, and the words and phrases ending at each
+     * token are looked up in hash tables of the names, aliases and codes of the country, so the
+     * mention closest to the end of the line wins, and the longest phrase there ("West Virginia"
+     * rather than "Virginia"). Phrases never span a comma or other punctuation. Names ignore case
+     * and diacritics, while codes must be in upper case, and bare codes need two or three
+     * characters including a letter, so that words like "in" and house numbers are not mistaken
+     * for codes. The tables are built on first use for each country.
+     * </p>
+     *
+     * @param country the country of the address.
+     * @param text    the address line.
+     * @return an Optional containing the subdivision and the span of its mention in {@code text},
+     *         or empty if none is found, the country is not supported or the text is {@code null}.
+     */
+    public static Optional<SubdivisionSpan> extract(CountryCode country, CharSequence text) {
+        return extract(countryIndex(country), text);
+    }
+
+    /**
+     * Reports every subdivision mentioned in a text by name or full ISO-3166-2 code, across all
+     * countries, such as the states, provinces and regions named in an invoice or a log file.
+     *
+     * <p>
+     * The names and codes of every subdivision are compiled, on the first scan, into an Aho-Corasick
+     * automaton, so the text is read in a single linear pass whatever the number of subdivisions.
+     * Names ignore case, diacritics and the amount of whitespace between words ("SAO  PAULO" is
+     * found). Mentions must be whole words, and when several names end at the same character only
+     * the longest is reported ("West Virginia", not also "Virginia").
+     * </p>
+     *
+     * @param text     the text.
+     * @param listener the listener receiving each mention, with its offsets in {@code text}, in the
+     *                 order the mentions end; not called if the text is {@code null}.
+     */
+    public static void scan(CharSequence text, SubdivisionMentionListener listener) {
+        if (text != null) {
+            Mentions.SCANNER.scan(text, listener);
+        }
+    }
+
+    /**
+     * Reports every subdivision mentioned in the text read from a reader, as
+     * {@link #scan(CharSequence, SubdivisionMentionListener)} does, streaming it through a fixed-size
+     * buffer so that texts of any length are scanned in constant memory. The reader is read to the
+     * end but not closed.
+     *
+     * @param reader   the reader.
+     * @param listener the listener receiving each mention, with its offsets in characters from the
+     *                 current position of the reader, in the order the mentions end.
+     * @throws IOException if reading fails.
+     */
+    public static void scan(Reader reader, SubdivisionMentionListener listener) throws IOException {
+        Mentions.SCANNER.scan(reader, listener);
+    }
+
+    /**
+     * Returns every subdivision mentioned in a text by name or full ISO-3166-2 code.
+     *
+     * @param text the text.
+     * @return an immutable list of the mentions, in the order they end in the text, empty if the
+     *         text is {@code null}.
+     * @see #scan(CharSequence, SubdivisionMentionListener)
+     */
+    public static List<SubdivisionSpan> scan(CharSequence text) {
+        List<SubdivisionSpan> mentions = new ArrayList<>();
+        scan(text, (subdivision, start, end) -> mentions.add(new SubdivisionSpan(subdivision, (int) start, (int) end)));
+        return List.copyOf(mentions);
+    }
+
+    /**
+     * Returns the subdivision for the given value, searching by code, then by name or alias, across
+     * all countries.
+     *
+     * @param value the code, name or alias.
+     * @return an Optional containing the subdivision if found, or empty otherwise.
+     */
+    public static Optional<Subdivision> find(String value) {
+        return Optional.ofNullable(findOrNull(value));
+    }
+
+    /**
+     * Returns all states across the countries with a nested enum. The states of the countries served
+     * from the bundled dataset are listed by {@link #getSubdivisions(CountryCode)}.
+     *
+     * @return an immutable list of states.
+     */
+    public static List<Subdivision> getStates() {
+        return Registry.getByCategory("state");
+    }
+
+    /**
+     * Returns all regions across the countries with a nested enum. The regions of the countries served
+     * from the bundled dataset are listed by {@link #getSubdivisions(CountryCode)}.
+     *
+     * @return an immutable list of regions.
+     */
+    public static List<Subdivision> getRegions() {
+        return Registry.getByCategory("region");
+    }
+
+    /**
+     * Returns all provinces across the countries with a nested enum. The provinces of the countries served
+     * from the bundled dataset are listed by {@link #getSubdivisions(CountryCode)}.
+     *
+     * @return an immutable list of provinces.
+     */
+    public static List<Subdivision> getProvinces() {
+        return Registry.getByCategory("province");
+    }
+
+    /**
+     * Returns all counties across the countries with a nested enum. The counties of the countries served
+     * from the bundled dataset are listed by {@link #getSubdivisions(CountryCode)}.
+     *
+     * @return an immutable list of counties.
+     */
+    public static List<Subdivision> getCounties() {
+        return Registry.getByCategory("county");
+    }
+
+    /**
+     * Returns the subdivisions for the given parent across all countries.
+     *
+     * @param parent the parent subdivision.
+     * @return an immutable list of subdivisions belonging to the parent.
+     */
+    public static List<Subdivision> getByParent(Subdivision parent) {
+        if (parent == null) {
+            return List.of();
+        }
+        return getByParent(indexForCode(parent.getCode()), parent);
+    }
+}
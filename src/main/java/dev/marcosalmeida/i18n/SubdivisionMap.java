@@ -0,0 +1,222 @@
+package dev.marcosalmeida.i18n;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A map keyed by subdivisions, spanning every country in {@link SubdivisionCode}.
+ *
+ * <p>
+ * Like {@link java.util.EnumMap}, values are stored in a flat array indexed by the position of
+ * each subdivision in the global registry, so lookups and updates involve neither hashing of the
+ * key nor entry nodes. Iteration follows the global registry order (countries alphabetically,
+ * then declaration order). For primitive values, see {@link SubdivisionIntMap},
+ * {@link SubdivisionLongMap} and {@link SubdivisionDoubleMap}.
+ * </p>
+ *
+ * <p>
+ * Only subdivisions registered in {@link SubdivisionCode} can be used as keys; {@code null}
+ * values are permitted. This class is not thread-safe.
+ * </p>
+ *
+ * @param <V> the type of mapped values.
+ */
+public final class SubdivisionMap<V> extends AbstractMap<Subdivision, V> {
+
+    /** Stands for a {@code null} value, since {@code null} slots mean "no mapping". */
+    private static final Object NULL = new Object();
+
+    private final Object[] values;
+    private int size;
+
+    /**
+     * Creates an empty map.
+     */
+    public SubdivisionMap() {
+        this.values = new Object[SubdivisionCode.registrySize()];
+    }
+
+    /**
+     * Creates a map with the same mappings as the given map.
+     *
+     * @param map the map whose mappings are to be copied.
+     * @throws IllegalArgumentException if a key is not registered in {@link SubdivisionCode}.
+     */
+    public SubdivisionMap(Map<? extends Subdivision, ? extends V> map) {
+        this();
+        putAll(map);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        int ordinal = ordinalOf(key);
+        return ordinal >= 0 && values[ordinal] != null;
+    }
+
+    @Override
+    public V get(Object key) {
+        int ordinal = ordinalOf(key);
+        return ordinal < 0 ? null : unmask(values[ordinal]);
+    }
+
+    @Override
+    public V put(Subdivision key, V value) {
+        int ordinal = SubdivisionCode.ordinal(key);
+        if (ordinal < 0) {
+            throw new IllegalArgumentException("Unsupported subdivision: " + key);
+        }
+        Object previous = values[ordinal];
+        values[ordinal] = value == null ? NULL : value;
+        if (previous == null) {
+            size++;
+        }
+        return unmask(previous);
+    }
+
+    @Override
+    public V remove(Object key) {
+        int ordinal = ordinalOf(key);
+        if (ordinal < 0) {
+            return null;
+        }
+        Object previous = values[ordinal];
+        if (previous != null) {
+            values[ordinal] = null;
+            size--;
+        }
+        return unmask(previous);
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    @Override
+    public Set<Entry<Subdivision, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<Subdivision, V>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public void clear() {
+                SubdivisionMap.this.clear();
+            }
+        };
+    }
+
+    private static int ordinalOf(Object key) {
+        return key instanceof Subdivision subdivision ? SubdivisionCode.ordinal(subdivision) : -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> V unmask(Object value) {
+        return value == NULL ? null : (V) value;
+    }
+
+    private final class EntryIterator implements Iterator<Entry<Subdivision, V>> {
+        private int next = advance(0);
+        private int lastReturned = -1;
+
+        private int advance(int from) {
+            while (from < values.length && values[from] == null) {
+                from++;
+            }
+            return from;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < values.length;
+        }
+
+        @Override
+        public Entry<Subdivision, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = next;
+            next = advance(next + 1);
+            return new MapEntry(lastReturned);
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0 || values[lastReturned] == null) {
+                throw new IllegalStateException();
+            }
+            values[lastReturned] = null;
+            size--;
+            lastReturned = -1;
+        }
+    }
+
+    private final class MapEntry implements Entry<Subdivision, V> {
+        private final int ordinal;
+
+        private MapEntry(int ordinal) {
+            this.ordinal = ordinal;
+        }
+
+        @Override
+        public Subdivision getKey() {
+            return SubdivisionCode.byOrdinal(ordinal);
+        }
+
+        @Override
+        public V getValue() {
+            return unmask(values[ordinal]);
+        }
+
+        @Override
+        public V setValue(V value) {
+            if (values[ordinal] == null) {
+                throw new IllegalStateException("Entry was removed");
+            }
+            V previous = unmask(values[ordinal]);
+            values[ordinal] = value == null ? NULL : value;
+            return previous;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Entry<?, ?> e
+                    && getKey().equals(e.getKey())
+                    && Objects.equals(getValue(), e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return getKey().hashCode() ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package dev.marcosalmeida.i18n;
+
+/**
+ * A subdivision found by approximate name matching (see {@link SubdivisionCode#findFuzzy(String, int)}).
+ *
+ * @param subdivision the matching subdivision.
+ * @param distance    the number of edits (inserted, deleted or substituted characters, or swapped
+ *                    adjacent characters) between the normalized input and the normalized name of
+ *                    the subdivision; {@code 0} for an exact match.
+ */
+public record SubdivisionMatch(Subdivision subdivision, int distance) {
+}
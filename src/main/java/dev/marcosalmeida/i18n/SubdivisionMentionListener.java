@@ -0,0 +1,19 @@
+package dev.marcosalmeida.i18n;
+
+/**
+ * Receives the subdivisions mentioned in a text scanned by
+ * {@link SubdivisionCode#scan(java.io.Reader, SubdivisionMentionListener)}.
+ */
+@FunctionalInterface
+public interface SubdivisionMentionListener {
+
+    /**
+     * Called for each mention, in the order the mentions end in the text.
+     *
+     * @param subdivision the mentioned subdivision.
+     * @param start       the offset of the first character of the mention, in characters from the
+     *                    start of the text.
+     * @param end         the offset following the last character of the mention.
+     */
+    void onMention(Subdivision subdivision, long start, long end);
+}
@@ -0,0 +1,184 @@
+package dev.marcosalmeida.i18n;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Translated subdivision names of one locale, loaded on first use of that locale.
+ *
+ * <p>
+ * Each table is generated at build time by {@code SubdivisionNamesWriter} and bundled as the
+ * {@code names_<locale>.bin} resource (e.g., {@code names_fr.bin} or {@code names_pt_PT.bin}),
+ * holding only the names that differ from {@link Subdivision#getSubdivisionName()}. A table is read
+ * on the first request for its locale and kept as one packed UTF-8 {@code byte[]} with an offsets
+ * array, so a JVM only holds the locales it actually uses and decodes a name only when asked. The
+ * reverse index behind {@link #fromName(String, Locale)} is built on the first reverse lookup of a
+ * table.
+ * </p>
+ *
+ * <p>Layout (big-endian):</p>
+ * <pre>
+ * header   magic (int) | version (short) | reserved (short) | name count (int)
+ * ids      subdivision id (int) of each name                 -- ascending
+ * offsets  start of each name in the strings (int), then the end of the last one
+ * strings  UTF-8 bytes
+ * </pre>
+ */
+final class SubdivisionNames {
+
+    static final int MAGIC = 0x5355424E; // "SUBN"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 12;
+
+    private static final SubdivisionNames EMPTY = new SubdivisionNames(new int[0], new int[] {0}, new byte[0]);
+    private static final SubdivisionNames[] NO_TABLES = new SubdivisionNames[0];
+
+    /** Loaded tables by resource suffix, {@link #EMPTY} for locales without one. */
+    private static final ConcurrentMap<String, SubdivisionNames> TABLES = new ConcurrentHashMap<>();
+    /** Tables consulted for each locale, most specific first. */
+    private static final ConcurrentMap<Locale, SubdivisionNames[]> CHAINS = new ConcurrentHashMap<>();
+
+    private final int[] ids;
+    private final int[] offsets;
+    private final byte[] strings;
+    /** Built on first use, since most tables are only used to render names. */
+    private volatile Map<String, Integer> byName;
+
+    private SubdivisionNames(int[] ids, int[] offsets, byte[] strings) {
+        this.ids = ids;
+        this.offsets = offsets;
+        this.strings = strings;
+    }
+
+    /**
+     * Decodes an encoded table.
+     *
+     * @param data the encoded table.
+     * @return the table.
+     * @throws IllegalStateException if the data is not a supported table.
+     */
+    static SubdivisionNames decode(byte[] data) {
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        if (data.length < HEADER_SIZE || buffer.getInt() != MAGIC || buffer.getShort() != VERSION) {
+            throw new IllegalStateException("Unsupported subdivision names table");
+        }
+        buffer.getShort();
+        int[] ids = new int[buffer.getInt()];
+        int[] offsets = new int[ids.length + 1];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = buffer.getInt();
+        }
+        for (int i = 0; i < offsets.length; i++) {
+            offsets[i] = buffer.getInt();
+        }
+        return new SubdivisionNames(ids, offsets, Arrays.copyOfRange(data, buffer.position(), data.length));
+    }
+
+    /**
+     * Returns the name of a subdivision in the given locale, trying the table of its language and
+     * country, then the table of its language, then falling back to the default name.
+     *
+     * @param subdivision the subdivision.
+     * @param locale      the locale.
+     * @return the translated name, or the default name if no table of the locale has one.
+     */
+    static String name(Subdivision subdivision, Locale locale) {
+        SubdivisionNames[] tables = tables(locale);
+        if (tables.length > 0) {
+            int id = subdivision.getId();
+            for (SubdivisionNames table : tables) {
+                String name = table.get(id);
+                if (name != null) {
+                    return name;
+                }
+            }
+        }
+        return subdivision.getSubdivisionName();
+    }
+
+    /**
+     * Returns the subdivision with the given translated name, ignoring case, diacritics and
+     * surrounding whitespace, in the same tables as {@link #name(Subdivision, Locale)}.
+     *
+     * @param name   the translated name.
+     * @param locale the locale.
+     * @return the matching subdivision, or {@code null} if no table of the locale has the name.
+     */
+    static Subdivision fromName(String name, Locale locale) {
+        SubdivisionNames[] tables = tables(locale);
+        if (tables.length > 0) {
+            String key = SubdivisionIndex.normalizeName(name);
+            for (SubdivisionNames table : tables) {
+                Integer id = table.byName().get(key);
+                if (id != null) {
+                    return SubdivisionCode.byId(id);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the translated name of the subdivision with the given id.
+     *
+     * @param id the subdivision id.
+     * @return the translated name, or {@code null} if this table has none.
+     */
+    String get(int id) {
+        int i = Arrays.binarySearch(ids, id);
+        return i < 0 ? null : new String(strings, offsets[i], offsets[i + 1] - offsets[i], StandardCharsets.UTF_8);
+    }
+
+    private Map<String, Integer> byName() {
+        Map<String, Integer> names = byName;
+        if (names == null) {
+            // Racy but idempotent: concurrent first callers may each build an identical map
+            Map<String, Integer> built = new HashMap<>();
+            for (int i = 0; i < ids.length; i++) {
+                built.putIfAbsent(SubdivisionIndex.normalizeName(get(ids[i])), ids[i]);
+            }
+            byName = names = Map.copyOf(built);
+        }
+        return names;
+    }
+
+    private static SubdivisionNames[] tables(Locale locale) {
+        if (locale == null) {
+            // No locale has no translations, like the root locale
+            return NO_TABLES;
+        }
+        return CHAINS.computeIfAbsent(locale, l -> {
+            if (l.getLanguage().isEmpty()) {
+                return NO_TABLES;
+            }
+            SubdivisionNames regional = l.getCountry().isEmpty() ? EMPTY : table(l.getLanguage() + "_" + l.getCountry());
+            SubdivisionNames language = table(l.getLanguage());
+            if (regional == EMPTY) {
+                return language == EMPTY ? NO_TABLES : new SubdivisionNames[] {language};
+            }
+            return language == EMPTY ? new SubdivisionNames[] {regional} : new SubdivisionNames[] {regional, language};
+        });
+    }
+
+    private static SubdivisionNames table(String suffix) {
+        return TABLES.computeIfAbsent(suffix, SubdivisionNames::load);
+    }
+
+    private static SubdivisionNames load(String suffix) {
+        String resource = "names_" + suffix + ".bin";
+        try (InputStream in = SubdivisionNames.class.getResourceAsStream(resource)) {
+            return in == null ? EMPTY : decode(in.readAllBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read subdivision names " + resource, e);
+        }
+    }
+}
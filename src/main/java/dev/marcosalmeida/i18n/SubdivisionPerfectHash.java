@@ -0,0 +1,200 @@
+package dev.marcosalmeida.i18n;
+
+import java.util.Arrays;
+
+/**
+ * Minimal perfect hash function over a fixed set of key hashes.
+ *
+ * <p>
+ * Built with the hash-and-displace scheme: hashes are first spread into buckets of two to four keys,
+ * and each bucket is assigned the smallest displacement that sends all of its keys to free slots.
+ * Every key of the set then maps to its own slot in {@code [0, size)} with a single probe and no
+ * collision chain, so a lookup costs two multiplications, one displacement read and one key comparison. Keys
+ * outside the set map to an arbitrary slot and must be rejected by comparing the stored key.
+ * </p>
+ *
+ * <p>
+ * The function works on 32-bit key hashes computed by the caller (e.g., {@link String#hashCode()}
+ * or a case-insensitive hash), so it can only separate keys whose hashes differ.
+ * </p>
+ */
+final class SubdivisionPerfectHash {
+
+    private static final int KEYS_PER_BUCKET = 4;
+    private static final int MAX_SEEDS = 16;
+    private static final int MAX_DISPLACEMENT = 1 << 16;
+
+    private final int seed;
+    private final int[] displacements;
+    private final int size;
+    /** Shift selecting a bucket from the top bits of a product, as many as there are bucket bits. */
+    private final int shift;
+
+    /**
+     * Wraps precomputed tables.
+     *
+     * @param seed          the value mixed into every hash.
+     * @param displacements the displacement of each bucket.
+     * @param size          the number of slots.
+     */
+    SubdivisionPerfectHash(int seed, int[] displacements, int size) {
+        this.seed = seed;
+        this.displacements = displacements;
+        this.size = size;
+        this.shift = Integer.numberOfLeadingZeros(displacements.length - 1);
+    }
+
+    /**
+     * Builds a minimal perfect hash function over the given key hashes. Construction is
+     * deterministic, so the same hashes always produce the same tables.
+     *
+     * @param hashes the key hashes.
+     * @return the hash function, whose {@link #size()} is the number of keys (at least one), or
+     *         {@code null} if two hashes are equal.
+     */
+    static SubdivisionPerfectHash build(int[] hashes) {
+        int[] sorted = hashes.clone();
+        Arrays.sort(sorted);
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] == sorted[i - 1]) {
+                return null;
+            }
+        }
+        int size = Math.max(1, hashes.length);
+        // A power of two, so that a bucket is picked with a multiply and a shift
+        int buckets = Math.max(2, Integer.highestOneBit(Math.max(1, hashes.length / KEYS_PER_BUCKET)) << 1);
+        for (int attempt = 0; attempt < MAX_SEEDS; attempt++) {
+            int seed = attempt * 0x9E3779B9;
+            int[] displacements = displace(hashes, seed, buckets, size);
+            if (displacements != null) {
+                return new SubdivisionPerfectHash(seed, displacements, size);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Assigns a displacement to every bucket, largest buckets first, or returns {@code null} if a
+     * bucket cannot be placed with this seed.
+     */
+    private static int[] displace(int[] hashes, int seed, int buckets, int size) {
+        // Group key indexes by bucket, counting-sort style
+        int[] starts = new int[buckets + 1];
+        for (int h : hashes) {
+            starts[bucket(h ^ seed, buckets) + 1]++;
+        }
+        for (int b = 0; b < buckets; b++) {
+            starts[b + 1] += starts[b];
+        }
+        int[] members = new int[hashes.length];
+        int[] fill = Arrays.copyOf(starts, buckets);
+        for (int i = 0; i < hashes.length; i++) {
+            members[fill[bucket(hashes[i] ^ seed, buckets)]++] = i;
+        }
+
+        Integer[] order = new Integer[buckets];
+        for (int b = 0; b < buckets; b++) {
+            order[b] = b;
+        }
+        Arrays.sort(order, (a, b) -> Integer.compare(starts[b + 1] - starts[b], starts[a + 1] - starts[a]));
+
+        int[] displacements = new int[buckets];
+        boolean[] taken = new boolean[size];
+        int[] slots = new int[KEYS_PER_BUCKET * 4];
+        for (int b : order) {
+            int from = starts[b];
+            int count = starts[b + 1] - from;
+            if (count == 0) {
+                break;
+            }
+            if (slots.length < count) {
+                slots = new int[count];
+            }
+            int attempt = 0;
+            int displacement = 0;
+            while (!fits(hashes, seed, members, from, count, displacement, size, taken, slots)) {
+                if (++attempt == MAX_DISPLACEMENT) {
+                    return null;
+                }
+                displacement = attempt * 0x9E3779B9;
+            }
+            for (int i = 0; i < count; i++) {
+                taken[slots[i]] = true;
+            }
+            displacements[b] = displacement;
+        }
+        return displacements;
+    }
+
+    private static boolean fits(int[] hashes, int seed, int[] members, int from, int count, int displacement,
+                                int size, boolean[] taken, int[] slots) {
+        for (int i = 0; i < count; i++) {
+            int slot = slot(hashes[members[from + i]] ^ seed, displacement, size);
+            if (taken[slot]) {
+                return false;
+            }
+            for (int j = 0; j < i; j++) {
+                if (slots[j] == slot) {
+                    return false;
+                }
+            }
+            slots[i] = slot;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the value mixed into every hash.
+     *
+     * @return the seed.
+     */
+    int seed() {
+        return seed;
+    }
+
+    /**
+     * Returns the displacement of each bucket, as the value xor-ed into the hashes of its keys. The
+     * returned array is shared and MUST NOT be modified.
+     *
+     * @return the displacements.
+     */
+    int[] displacements() {
+        return displacements;
+    }
+
+    /**
+     * Returns the number of slots, i.e. the number of keys.
+     *
+     * @return the number of slots.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the slot of the key with the given hash.
+     *
+     * @param hash the key hash.
+     * @return the slot, in {@code [0, size)}.
+     */
+    int slot(int hash) {
+        hash ^= seed;
+        return slot(hash, displacements[(hash * 0x9E3779B9) >>> shift], size);
+    }
+
+    private static int bucket(int hash, int buckets) {
+        // Fibonacci hashing: the top bits of the product, as many as there are bucket bits
+        return (hash * 0x9E3779B9) >>> Integer.numberOfLeadingZeros(buckets - 1);
+    }
+
+    private static int slot(int hash, int displacement, int size) {
+        return reduce((hash ^ displacement) * 0x7FEB352D, size);
+    }
+
+    /**
+     * Maps a well-mixed 32-bit value to {@code [0, n)} with a multiplication instead of a division.
+     */
+    private static int reduce(int x, int n) {
+        return (int) (((x & 0xFFFFFFFFL) * n) >>> 32);
+    }
+}
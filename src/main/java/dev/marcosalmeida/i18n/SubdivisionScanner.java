@@ -0,0 +1,306 @@
+package dev.marcosalmeida.i18n;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aho-Corasick automaton finding every mention of a set of subdivisions, by name or full code, in a
+ * single linear pass over a text of any length.
+ *
+ * <p>
+ * The names and codes are {@linkplain SubdivisionExtractor#fold(char) folded} to lower case without
+ * diacritics, with whitespace runs collapsed to one space, and compiled once into a deterministic
+ * automaton: the failure links are resolved into a dense transition table over the few distinct
+ * characters of the patterns, so each character of the text costs one table read, whatever the
+ * number of patterns. The text is folded the same way on the fly, and each offset is kept in a ring
+ * buffer as long as the longest pattern, so that arbitrarily long streams are matched in constant
+ * memory.
+ * </p>
+ *
+ * <p>
+ * Mentions must be whole words: the characters before and after them must not be letters or
+ * digits, so "Maine" is not found in "Mainers". When several patterns end at the same character,
+ * only the longest whole-word one is reported, so "West Virginia" does not also report "Virginia".
+ * </p>
+ */
+final class SubdivisionScanner {
+
+    private static final byte OTHER = 0;
+    private static final byte SPACE = 1;
+    private static final byte UPPER = 2;
+    private static final byte LOWER_OR_DIGIT = 3;
+    /** Type of each ASCII character, so that most text skips the {@link Character} lookups. */
+    private static final byte[] ASCII = new byte[0x80];
+
+    static {
+        for (char c = 0; c < ASCII.length; c++) {
+            ASCII[c] = isWhitespace(c) ? SPACE : c >= 'A' && c <= 'Z' ? UPPER
+                    : Character.isLetterOrDigit(c) ? LOWER_OR_DIGIT : OTHER;
+        }
+    }
+
+    private final Subdivision[] values;
+    /** Symbol of each folded character, {@code 0} for the characters of no pattern. */
+    private final int[] symbols;
+    private final int alphabet;
+    /** Transition table: the next state is at {@code state * alphabet + symbol}. */
+    private final int[] next;
+    /** Longest pattern spelled by the end of each state, or {@code -1}. */
+    private final int[] output;
+    /** Nearest state along the failure links with an output, or {@code -1}. */
+    private final int[] outputLink;
+    private final int[] lengths;
+    private final int[] positions;
+    private final int window;
+
+    /**
+     * Compiles an automaton over the names and full codes of the given subdivisions. When two
+     * subdivisions share a name or code, the one appearing first wins.
+     *
+     * @param values the subdivisions, in precedence order.
+     */
+    SubdivisionScanner(Subdivision[] values) {
+        this.values = values;
+        List<String> patterns = new ArrayList<>();
+        List<Integer> patternPositions = new ArrayList<>();
+        for (int i = 0; i < values.length; i++) {
+            patterns.add(foldPattern(values[i].getSubdivisionName()));
+            patternPositions.add(i);
+            patterns.add(foldPattern(values[i].getCode()));
+            patternPositions.add(i);
+        }
+
+        // Symbols are numbered from 1 in order of appearance; 0 stands for every other character
+        Map<Character, Integer> symbolOf = new HashMap<>();
+        int longest = 0;
+        char highest = 0;
+        for (String pattern : patterns) {
+            longest = Math.max(longest, pattern.length());
+            for (int i = 0; i < pattern.length(); i++) {
+                symbolOf.putIfAbsent(pattern.charAt(i), symbolOf.size() + 1);
+                highest = (char) Math.max(highest, pattern.charAt(i));
+            }
+        }
+        this.alphabet = symbolOf.size() + 1;
+        this.symbols = new int[highest + 1];
+        symbolOf.forEach((c, symbol) -> symbols[c] = symbol);
+        this.window = Integer.highestOneBit(longest) << 1;
+
+        // Trie, with -1 for missing transitions
+        int[] table = new int[this.alphabet * 64];
+        Arrays.fill(table, -1);
+        int[] terminal = new int[64];
+        Arrays.fill(terminal, -1);
+        int states = 1;
+        this.lengths = new int[patterns.size()];
+        this.positions = new int[patterns.size()];
+        for (int p = 0; p < patterns.size(); p++) {
+            String pattern = patterns.get(p);
+            lengths[p] = pattern.length();
+            positions[p] = patternPositions.get(p);
+            int state = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                int edge = state * this.alphabet + symbols[pattern.charAt(i)];
+                if (table[edge] < 0) {
+                    if (states * this.alphabet == table.length) {
+                        int size = table.length;
+                        table = Arrays.copyOf(table, size * 2);
+                        Arrays.fill(table, size, table.length, -1);
+                        terminal = Arrays.copyOf(terminal, states * 2);
+                        Arrays.fill(terminal, states, terminal.length, -1);
+                    }
+                    table[edge] = states++;
+                }
+                state = table[edge];
+            }
+            if (pattern.length() > 0 && terminal[state] < 0) {
+                terminal[state] = p;
+            }
+        }
+
+        // Breadth-first, so that the failure target of a state is complete before the state itself
+        this.next = Arrays.copyOf(table, states * this.alphabet);
+        this.output = Arrays.copyOf(terminal, states);
+        this.outputLink = new int[states];
+        int[] failure = new int[states];
+        int[] queue = new int[states];
+        int head = 0;
+        int tail = 0;
+        outputLink[0] = -1;
+        for (int a = 0; a < this.alphabet; a++) {
+            if (next[a] < 0) {
+                next[a] = 0;
+            } else {
+                failure[next[a]] = 0;
+                outputLink[next[a]] = -1;
+                queue[tail++] = next[a];
+            }
+        }
+        while (head < tail) {
+            int state = queue[head++];
+            for (int a = 0; a < this.alphabet; a++) {
+                int edge = state * this.alphabet + a;
+                int fallback = next[failure[state] * this.alphabet + a];
+                if (next[edge] < 0) {
+                    next[edge] = fallback;
+                } else {
+                    int child = next[edge];
+                    failure[child] = fallback;
+                    outputLink[child] = output[fallback] >= 0 ? fallback : outputLink[fallback];
+                    queue[tail++] = child;
+                }
+            }
+        }
+    }
+
+    /**
+     * Reports every mention in the given text.
+     *
+     * @param text     the text.
+     * @param listener the listener receiving the mentions, with offsets into {@code text}.
+     */
+    void scan(CharSequence text, SubdivisionMentionListener listener) {
+        Scan scan = new Scan(listener);
+        for (int i = 0, length = text.length(); i < length; i++) {
+            scan.feed(text.charAt(i), i);
+        }
+        scan.finish();
+    }
+
+    /**
+     * Reports every mention in the text read from the given reader, which is read to the end but
+     * not closed.
+     *
+     * @param reader   the reader.
+     * @param listener the listener receiving the mentions, with offsets from the current position
+     *                 of the reader.
+     * @throws IOException if reading fails.
+     */
+    void scan(Reader reader, SubdivisionMentionListener listener) throws IOException {
+        Scan scan = new Scan(listener);
+        char[] buffer = new char[8192];
+        long offset = 0;
+        int read;
+        while ((read = reader.read(buffer)) >= 0) {
+            for (int i = 0; i < read; i++) {
+                scan.feed(buffer[i], offset + i);
+            }
+            offset += read;
+        }
+        scan.finish();
+    }
+
+    private static String foldPattern(String s) {
+        StringBuilder pattern = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (isWhitespace(c)) {
+                if (pattern.length() > 0 && pattern.charAt(pattern.length() - 1) != ' ') {
+                    pattern.append(' ');
+                }
+            } else if ((c = SubdivisionExtractor.fold(c)) != 0) {
+                pattern.append(c);
+            }
+        }
+        int length = pattern.length();
+        return length > 0 && pattern.charAt(length - 1) == ' ' ? pattern.substring(0, length - 1) : pattern.toString();
+    }
+
+    private static boolean isWhitespace(char c) {
+        return Character.isWhitespace(c) || Character.isSpaceChar(c);
+    }
+
+    /**
+     * State of one pass over a text.
+     *
+     * <p>
+     * A state with an output becomes pending until the next character shows whether the mention
+     * ends a word. The ring buffers hold, for the last {@link #window} folded characters, their
+     * offset in the text and whether a letter or digit precedes them.
+     * </p>
+     */
+    private final class Scan {
+        private final SubdivisionMentionListener listener;
+        private final long[] starts = new long[window];
+        private final boolean[] wordBefore = new boolean[window];
+        private long index;
+        private int state;
+        private char last = ' ';
+        private boolean previousWord;
+        private int pendingState = -1;
+        private long pendingIndex;
+        private long pendingEnd;
+
+        Scan(SubdivisionMentionListener listener) {
+            this.listener = listener;
+        }
+
+        void feed(char c, long offset) {
+            char folded;
+            boolean word;
+            int type = c < 0x80 ? ASCII[c] : isWhitespace(c) ? SPACE : OTHER;
+            if (type == SPACE) {
+                folded = ' ';
+                word = false;
+            } else if (c < 0x80) {
+                folded = type == UPPER ? (char) (c + 0x20) : c;
+                word = type != OTHER;
+            } else {
+                folded = SubdivisionExtractor.fold(c);
+                if (folded == 0) {
+                    // A combining mark belongs to the previous character, and so to a pending mention
+                    pendingEnd = pendingState >= 0 ? offset + 1 : pendingEnd;
+                    return;
+                }
+                word = Character.isLetterOrDigit(c);
+            }
+            if (pendingState >= 0) {
+                resolve(word);
+            }
+            if (folded == ' ' && last == ' ') {
+                previousWord = false;
+                return;
+            }
+            int slot = (int) (index++ & (window - 1));
+            starts[slot] = offset;
+            wordBefore[slot] = previousWord;
+            previousWord = word;
+            last = folded;
+            state = next[state * alphabet + (folded < symbols.length ? symbols[folded] : 0)];
+            if (output[state] >= 0 || outputLink[state] >= 0) {
+                pendingState = state;
+                pendingIndex = index;
+                pendingEnd = offset + 1;
+            }
+        }
+
+        void finish() {
+            resolve(false);
+        }
+
+        /**
+         * Reports the longest whole-word pattern of the pending state, if the character following
+         * it is not a letter or digit.
+         */
+        private void resolve(boolean wordAfter) {
+            int pending = pendingState;
+            pendingState = -1;
+            if (pending < 0 || wordAfter) {
+                return;
+            }
+            for (int s = output[pending] >= 0 ? pending : outputLink[pending]; s >= 0; s = outputLink[s]) {
+                int pattern = output[s];
+                int slot = (int) ((pendingIndex - lengths[pattern]) & (window - 1));
+                if (!wordBefore[slot]) {
+                    listener.onMention(values[positions[pattern]], starts[slot], pendingEnd);
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,325 @@
+package dev.marcosalmeida.i18n;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A compact, mutable set of subdivisions spanning every country in {@link SubdivisionCode}.
+ *
+ * <p>
+ * Like {@link java.util.EnumSet}, membership is stored as a bit vector: each subdivision is mapped
+ * to its position in the global registry and represented by a single bit of a {@code long[]}, so a
+ * set covering all supported subdivisions takes a handful of words. {@link #contains(Object)},
+ * {@link #union(SubdivisionSet)} and {@link #intersection(SubdivisionSet)} operate directly on the
+ * words. Iteration follows the global registry order (countries alphabetically, then declaration
+ * order).
+ * </p>
+ *
+ * <p>
+ * Only subdivisions registered in {@link SubdivisionCode}, from its country enums or from the
+ * bundled dataset, can be added. This class is not thread-safe.
+ * </p>
+ */
+public final class SubdivisionSet extends AbstractSet<Subdivision> implements Cloneable {
+
+    private long[] words;
+    private int size;
+
+    private SubdivisionSet() {
+        this.words = new long[(SubdivisionCode.registrySize() + 63) >>> 6];
+    }
+
+    /**
+     * Creates an empty set.
+     *
+     * @return an empty subdivision set.
+     */
+    public static SubdivisionSet noneOf() {
+        return new SubdivisionSet();
+    }
+
+    /**
+     * Creates a set containing every registered subdivision.
+     *
+     * @return a set with all subdivisions.
+     */
+    public static SubdivisionSet allOf() {
+        SubdivisionSet set = new SubdivisionSet();
+        int universe = SubdivisionCode.registrySize();
+        Arrays.fill(set.words, -1L);
+        if ((universe & 63) != 0) {
+            set.words[set.words.length - 1] = -1L >>> -universe;
+        }
+        set.size = universe;
+        return set;
+    }
+
+    /**
+     * Creates a set containing the given subdivisions.
+     *
+     * @param first the first subdivision.
+     * @param rest  the remaining subdivisions.
+     * @return a set with the given subdivisions.
+     * @throws IllegalArgumentException if a subdivision is not registered in {@link SubdivisionCode}.
+     */
+    public static SubdivisionSet of(Subdivision first, Subdivision... rest) {
+        SubdivisionSet set = new SubdivisionSet();
+        set.add(first);
+        for (Subdivision subdivision : rest) {
+            set.add(subdivision);
+        }
+        return set;
+    }
+
+    /**
+     * Creates a set containing the subdivisions of the given collection.
+     *
+     * @param subdivisions the subdivisions.
+     * @return a set with the given subdivisions.
+     * @throws IllegalArgumentException if a subdivision is not registered in {@link SubdivisionCode}.
+     */
+    public static SubdivisionSet copyOf(Collection<? extends Subdivision> subdivisions) {
+        if (subdivisions instanceof SubdivisionSet other) {
+            return other.clone();
+        }
+        SubdivisionSet set = new SubdivisionSet();
+        set.addAll(subdivisions);
+        return set;
+    }
+
+    /**
+     * Returns a new set containing the subdivisions present in this set or in {@code other}.
+     *
+     * @param other the other set.
+     * @return the union of both sets.
+     */
+    public SubdivisionSet union(SubdivisionSet other) {
+        SubdivisionSet result = clone();
+        result.addAll(other);
+        return result;
+    }
+
+    /**
+     * Returns a new set containing the subdivisions present in both this set and {@code other}.
+     *
+     * @param other the other set.
+     * @return the intersection of both sets.
+     */
+    public SubdivisionSet intersection(SubdivisionSet other) {
+        SubdivisionSet result = clone();
+        result.retainAll(other);
+        return result;
+    }
+
+    /**
+     * Returns whether this set and {@code other} have at least one subdivision in common.
+     *
+     * @param other the other set.
+     * @return {@code true} if the sets intersect.
+     */
+    public boolean intersects(SubdivisionSet other) {
+        for (int i = 0; i < words.length; i++) {
+            if ((words[i] & other.words[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof Subdivision subdivision)) {
+            return false;
+        }
+        int ordinal = SubdivisionCode.ordinal(subdivision);
+        return ordinal >= 0 && (words[ordinal >>> 6] & (1L << ordinal)) != 0;
+    }
+
+    @Override
+    public boolean add(Subdivision subdivision) {
+        int ordinal = SubdivisionCode.ordinal(subdivision);
+        if (ordinal < 0) {
+            throw new IllegalArgumentException("Unsupported subdivision: " + subdivision);
+        }
+        long before = words[ordinal >>> 6];
+        long after = before | (1L << ordinal);
+        if (before == after) {
+            return false;
+        }
+        words[ordinal >>> 6] = after;
+        size++;
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (!(o instanceof Subdivision subdivision)) {
+            return false;
+        }
+        int ordinal = SubdivisionCode.ordinal(subdivision);
+        if (ordinal < 0) {
+            return false;
+        }
+        long before = words[ordinal >>> 6];
+        long after = before & ~(1L << ordinal);
+        if (before == after) {
+            return false;
+        }
+        words[ordinal >>> 6] = after;
+        size--;
+        return true;
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        if (!(c instanceof SubdivisionSet other)) {
+            return super.containsAll(c);
+        }
+        for (int i = 0; i < words.length; i++) {
+            if ((other.words[i] & ~words[i]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Subdivision> c) {
+        if (!(c instanceof SubdivisionSet other)) {
+            return super.addAll(c);
+        }
+        for (int i = 0; i < words.length; i++) {
+            words[i] |= other.words[i];
+        }
+        return recalculateSize();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        if (!(c instanceof SubdivisionSet other)) {
+            return super.retainAll(c);
+        }
+        for (int i = 0; i < words.length; i++) {
+            words[i] &= other.words[i];
+        }
+        return recalculateSize();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        if (!(c instanceof SubdivisionSet other)) {
+            return super.removeAll(c);
+        }
+        for (int i = 0; i < words.length; i++) {
+            words[i] &= ~other.words[i];
+        }
+        return recalculateSize();
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(words, 0L);
+        size = 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public Iterator<Subdivision> iterator() {
+        return new BitIterator();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof SubdivisionSet other) {
+            return Arrays.equals(words, other.words);
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        // Must stay consistent with Set.hashCode(), i.e. the sum of the element hash codes.
+        return super.hashCode();
+    }
+
+    /**
+     * Returns a copy of this set.
+     *
+     * @return a copy of this set.
+     */
+    @Override
+    public SubdivisionSet clone() {
+        try {
+            SubdivisionSet copy = (SubdivisionSet) super.clone();
+            copy.words = words.clone();
+            return copy;
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private boolean recalculateSize() {
+        int oldSize = size;
+        int newSize = 0;
+        for (long word : words) {
+            newSize += Long.bitCount(word);
+        }
+        size = newSize;
+        return newSize != oldSize;
+    }
+
+    private final class BitIterator implements Iterator<Subdivision> {
+        private int wordIndex;
+        private long unseen = words.length == 0 ? 0 : words[0];
+        private int lastReturned = -1;
+        private int expectedSize = size;
+
+        @Override
+        public boolean hasNext() {
+            while (unseen == 0 && wordIndex < words.length - 1) {
+                unseen = words[++wordIndex];
+            }
+            return unseen != 0;
+        }
+
+        @Override
+        public Subdivision next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (expectedSize != size) {
+                throw new ConcurrentModificationException();
+            }
+            lastReturned = (wordIndex << 6) + Long.numberOfTrailingZeros(unseen);
+            unseen &= unseen - 1;
+            return SubdivisionCode.byOrdinal(lastReturned);
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            if (expectedSize != size) {
+                throw new ConcurrentModificationException();
+            }
+            words[lastReturned >>> 6] &= ~(1L << lastReturned);
+            size--;
+            expectedSize = size;
+            lastReturned = -1;
+        }
+    }
+}
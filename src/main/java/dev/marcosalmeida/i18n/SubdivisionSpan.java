@@ -0,0 +1,11 @@
+package dev.marcosalmeida.i18n;
+
+/**
+ * A subdivision mentioned in free text (see {@link SubdivisionCode#extract(com.neovisionaries.i18n.CountryCode, CharSequence)}).
+ *
+ * @param subdivision the mentioned subdivision.
+ * @param start       the index of the first character of the mention in the text.
+ * @param end         the index following the last character of the mention in the text.
+ */
+public record SubdivisionSpan(Subdivision subdivision, int start, int end) {
+}
@@ -1,5 +1,6 @@
 package dev.marcosalmeida.i18n;
 
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -66,11 +67,11 @@ public class SubdivisionAUTest {
 
     @Test
     public void testFiltering() {
-        Subdivision[] states = SubdivisionCode.AU.getStates();
-        assertEquals(6, states.length);
+        List<Subdivision> states = SubdivisionCode.AU.getStates();
+        assertEquals(6, states.size());
 
-        Subdivision[] territories = SubdivisionCode.AU.getTerritories();
-        assertEquals(2, territories.length);
+        List<Subdivision> territories = SubdivisionCode.AU.getTerritories();
+        assertEquals(2, territories.size());
         
         boolean hasAct = false;
         for (Subdivision s : territories) {
@@ -0,0 +1,28 @@
+package dev.marcosalmeida.i18n;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SubdivisionAliasTest {
+
+    @Test
+    public void testAliases() {
+        assertEquals(SubdivisionCode.US.CA, SubdivisionCode.US.fromName("Calif.").orElseThrow());
+        assertEquals(SubdivisionCode.US.MA, SubdivisionCode.fromName("mass.").orElseThrow());
+        assertEquals(SubdivisionCode.CA.QC, SubdivisionCode.find("PQ").orElseThrow());
+        assertEquals(SubdivisionCode.CA.QC, SubdivisionCode.CA.find("Québec").orElseThrow());
+        assertEquals(SubdivisionCode.CA.NL, SubdivisionCode.CA.fromName("Newfoundland").orElseThrow());
+        assertEquals(SubdivisionCode.MX.CMX, SubdivisionCode.MX.fromName("Distrito Federal").orElseThrow());
+        assertEquals(SubdivisionCode.IT.IT_25, SubdivisionCode.find("Lombardy").orElseThrow());
+        assertEquals(List.of("Calif.", "Cal."), SubdivisionCode.US.CA.getAliases());
+        assertEquals(List.of(), SubdivisionCode.US.ME.getAliases());
+
+        // Names take precedence over aliases: Brazil's Distrito Federal is a name, Mexico's an alias
+        assertEquals(SubdivisionCode.BR.DF, SubdivisionCode.fromName("Distrito Federal").orElseThrow());
+
+        // Aliases are suggested and fuzzily matched like names
+        assertEquals(SubdivisionCode.IT.IT_25, SubdivisionCode.IT.suggest("lombardy", 1).get(0));
+        assertEquals(new SubdivisionMatch(SubdivisionCode.IT.IT_52, 1), SubdivisionCode.findFuzzy("Tuscanny", 1).get(0));
+    }
+}
@@ -1,5 +1,6 @@
 package dev.marcosalmeida.i18n;
 
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -70,11 +71,11 @@ public class SubdivisionBRTest {
 
     @Test
     public void testFiltering() {
-        Subdivision[] states = SubdivisionCode.BR.getStates();
-        assertEquals(26, states.length);
+        List<Subdivision> states = SubdivisionCode.BR.getStates();
+        assertEquals(26, states.size());
 
-        Subdivision[] federalDistricts = SubdivisionCode.BR.getFederalDistricts();
-        assertEquals(1, federalDistricts.length);
-        assertEquals(SubdivisionCode.BR.DF, federalDistricts[0]);
+        List<Subdivision> federalDistricts = SubdivisionCode.BR.getFederalDistricts();
+        assertEquals(1, federalDistricts.size());
+        assertEquals(SubdivisionCode.BR.DF, federalDistricts.get(0));
     }
 }
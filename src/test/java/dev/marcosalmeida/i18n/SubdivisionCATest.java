@@ -1,5 +1,6 @@
 package dev.marcosalmeida.i18n;
 
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -70,11 +71,11 @@ public class SubdivisionCATest {
 
     @Test
     public void testFiltering() {
-        Subdivision[] provinces = SubdivisionCode.CA.getProvinces();
-        assertEquals(10, provinces.length);
+        List<Subdivision> provinces = SubdivisionCode.CA.getProvinces();
+        assertEquals(10, provinces.size());
 
-        Subdivision[] territories = SubdivisionCode.CA.getTerritories();
-        assertEquals(3, territories.length);
+        List<Subdivision> territories = SubdivisionCode.CA.getTerritories();
+        assertEquals(3, territories.size());
         
         boolean hasYukon = false;
         for (Subdivision s : territories) {
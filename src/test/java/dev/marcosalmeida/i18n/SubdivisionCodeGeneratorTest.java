@@ -0,0 +1,54 @@
+package dev.marcosalmeida.i18n;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SubdivisionCodeGeneratorTest {
+
+    private static final List<String> COUNTRIES = List.of("# comment", "FR\tFrance\tFrench");
+
+    @Test
+    public void testGeneratedEnum() {
+        String source = SubdivisionCodeGenerator.generate(List.of(
+                "FR-ARA\tAuvergne-Rhône-Alpes\tmetropolitan region",
+                "FR-01\tAin\tmetropolitan department\tFR-ARA\tDépartement de l'Ain|Ain department",
+                "DE-BY\tBayern\tstate"), COUNTRIES);
+
+        assertTrue(source.contains("public enum FR implements Subdivision {"));
+        assertTrue(source.contains("ARA(\"FR-ARA\", 9649898, \"Auvergne-Rhône-Alpes\", \"metropolitan region\", null, List.of()),"));
+        assertTrue(source.contains("FR_01(\"FR-01\", 9635235, \"Ain\", \"metropolitan department\", ARA, "
+                + "List.of(\"Département de l'Ain\", \"Ain department\"));"));
+        assertTrue(source.contains("public int getId() {"));
+        assertTrue(source.contains("public List<String> getAliases() {"));
+        assertTrue(source.contains("public static List<Subdivision> getMetropolitanDepartments() {"));
+        assertTrue(source.contains("Returns the French metropolitan regions."));
+        assertTrue(source.contains("public String getSubdivisionCode() {"));
+        assertTrue(source.contains("case FR -> FR.INDEX;"));
+        assertTrue(source.contains("new SubdivisionPerfectHash("));
+        assertTrue(source.contains("static SubdivisionPerfectHash registryHash() {"));
+        // Countries without an enum are left to the binary dataset
+        assertFalse(source.contains("enum DE"));
+    }
+
+    @Test
+    public void testInvalidInput() {
+        assertThrows(IllegalArgumentException.class,
+                () -> SubdivisionCodeGenerator.generate(List.of("FR-A\tA\tstate\tFR-B"), COUNTRIES));
+        assertThrows(IllegalArgumentException.class,
+                () -> SubdivisionCodeGenerator.generate(List.of("FR-A\tA\tstate\t\tB||C"), COUNTRIES));
+        assertThrows(IllegalArgumentException.class,
+                () -> SubdivisionCodeGenerator.generate(List.of("DE-BY\tBayern\tstate"), COUNTRIES));
+        assertThrows(IllegalArgumentException.class,
+                () -> SubdivisionCodeGenerator.generate(List.of("FR-A\tA\tstate"), List.of("FRA\tFrance")));
+    }
+
+    @Test
+    public void testCodeHashCoversFullAndShortCodes() {
+        SubdivisionSource.Row bayern = new SubdivisionSource.Row("DE-BY", "Bayern", "state", null, List.of());
+        SubdivisionSource.Row berlin = new SubdivisionSource.Row("DE-BE", "Berlin", "state", null, List.of());
+        SubdivisionSource.Row folded = new SubdivisionSource.Row("de-by", "Bayern", "state", null, List.of());
+        assertEquals(4, SubdivisionCodeGenerator.codeHash(List.of(bayern, berlin), "DE").size());
+        assertEquals(4, SubdivisionCodeGenerator.codeHash(List.of(bayern, berlin, folded), "DE").size());
+    }
+}
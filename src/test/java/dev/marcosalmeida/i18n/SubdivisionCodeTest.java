@@ -1,6 +1,16 @@
 package dev.marcosalmeida.i18n;
 
 import com.neovisionaries.i18n.CountryCode;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -78,6 +88,58 @@ public class SubdivisionCodeTest {
         assertThrows(IllegalArgumentException.class, () -> SubdivisionCode.fromCode("US-XX"));
     }
 
+    @Test
+    public void testFromCodeIgnoresCase() {
+        assertEquals(SubdivisionCode.US.AL, SubdivisionCode.fromCode("us-al"));
+        assertEquals(SubdivisionCode.US.AL, SubdivisionCode.US.fromCode("al"));
+        assertEquals(SubdivisionCode.IT.IT_25, SubdivisionCode.IT.fromCode("it-25"));
+        assertEquals(SubdivisionCode.AU.NSW, SubdivisionCode.AU.fromCode("Nsw"));
+
+        assertThrows(IllegalArgumentException.class, () -> SubdivisionCode.US.fromCode("US-AL "));
+        assertThrows(IllegalArgumentException.class, () -> SubdivisionCode.US.fromCode(""));
+        assertThrows(IllegalArgumentException.class, () -> SubdivisionCode.US.fromCode(null));
+    }
+
+    @Test
+    public void testFullCodesOnlyInitializeTheirCountry() throws Exception {
+        URL[] classpath = {
+                SubdivisionCode.class.getProtectionDomain().getCodeSource().getLocation(),
+                CountryCode.class.getProtectionDomain().getCodeSource().getLocation()
+        };
+        try (IsolatedLoader loader = new IsolatedLoader(classpath)) {
+            Class<?> isolated = Class.forName(SubdivisionCode.class.getName(), true, loader);
+            Object alabama = isolated.getMethod("fromCode", String.class).invoke(null, "US-AL");
+            assertEquals("AL", alabama.toString());
+
+            assertTrue(loader.isLoaded(SubdivisionCode.US.class));
+            assertFalse(loader.isLoaded(SubdivisionCode.BR.class));
+            assertFalse(loader.isLoaded(SubdivisionCode.AU.class));
+        }
+    }
+
+    /** Loads this library afresh, so its class initialization can be observed. */
+    private static final class IsolatedLoader extends URLClassLoader {
+        IsolatedLoader(URL[] classpath) {
+            super(classpath, ClassLoader.getPlatformClassLoader());
+        }
+
+        boolean isLoaded(Class<?> type) {
+            return findLoadedClass(type.getName()) != null;
+        }
+    }
+
+    @Test
+    public void testTryFromCode() {
+        assertEquals(SubdivisionCode.US.AL, SubdivisionCode.tryFromCode("US-AL").orElseThrow());
+        assertEquals(SubdivisionCode.BR.AL, SubdivisionCode.tryFromCode("AL").orElseThrow());
+        assertEquals(SubdivisionCode.US.AL, SubdivisionCode.US.tryFromCode("al").orElseThrow());
+
+        assertTrue(SubdivisionCode.tryFromCode("US-XX").isEmpty());
+        assertTrue(SubdivisionCode.tryFromCode("").isEmpty());
+        assertTrue(SubdivisionCode.tryFromCode(null).isEmpty());
+        assertTrue(SubdivisionCode.US.tryFromCode("BR-SP").isEmpty());
+    }
+
     @Test
     public void testFromName() {
         Subdivision alabama = SubdivisionCode.fromName("Alabama").orElseThrow();
@@ -89,6 +151,18 @@ public class SubdivisionCodeTest {
         assertTrue(SubdivisionCode.fromName("Invalid").isEmpty());
     }
 
+    @Test
+    public void testFromNameIgnoresDiacritics() {
+        assertEquals(SubdivisionCode.BR.SP, SubdivisionCode.fromName("Sao Paulo").orElseThrow());
+        assertEquals(SubdivisionCode.BR.SP, SubdivisionCode.BR.fromName("  SAO PAULO ").orElseThrow());
+        assertEquals(SubdivisionCode.MX.CMX, SubdivisionCode.fromName("Ciudad de Mexico").orElseThrow());
+        assertEquals(SubdivisionCode.MX.NLE, SubdivisionCode.MX.fromName("nuevo leon").orElseThrow());
+        assertEquals(SubdivisionCode.MX.MEX, SubdivisionCode.find("Mexico").orElseThrow());
+
+        assertTrue(SubdivisionCode.fromName("Sao").isEmpty());
+        assertTrue(SubdivisionCode.fromName(null).isEmpty());
+    }
+
     @Test
     public void testFind() {
         // "AL" matches BR-AL first because BR is before US in the Stream
@@ -106,19 +180,125 @@ public class SubdivisionCodeTest {
 
     @Test
     public void testGlobalFiltering() {
-        Subdivision[] allStates = SubdivisionCode.getStates();
+        List<Subdivision> allStates = SubdivisionCode.getStates();
         // 6 (AU) + 26 (BR) + 31 (MX) + 50 (US) = 113
-        assertEquals(113, allStates.length);
+        assertEquals(113, allStates.size());
 
-        Subdivision[] allRegions = SubdivisionCode.getRegions();
+        List<Subdivision> allRegions = SubdivisionCode.getRegions();
         // 15 (IT) + 16 (NZ) = 31
-        assertEquals(31, allRegions.length);
+        assertEquals(31, allRegions.size());
 
-        Subdivision[] allProvinces = SubdivisionCode.getProvinces();
+        List<Subdivision> allProvinces = SubdivisionCode.getProvinces();
         // 10 (CA) + 4 (IE) = 14
-        assertEquals(14, allProvinces.length);
+        assertEquals(14, allProvinces.size());
+
+        List<Subdivision> allCounties = SubdivisionCode.getCounties();
+        assertEquals(26, allCounties.size());
+    }
+
+    @Test
+    public void testCategoryViewsAreCachedAndImmutable() {
+        assertSame(SubdivisionCode.getStates(), SubdivisionCode.getStates());
+        assertSame(SubdivisionCode.US.getStates(), SubdivisionCode.US.getStates());
+
+        List<Subdivision> states = SubdivisionCode.US.getStates();
+        assertThrows(UnsupportedOperationException.class, () -> states.add(SubdivisionCode.BR.SP));
+        assertThrows(UnsupportedOperationException.class, () -> states.set(0, SubdivisionCode.BR.SP));
+    }
+
+    @Test
+    public void testIds() {
+        // Ids are derived from the code only, so these values must never change
+        assertEquals(35274241, SubdivisionCode.US.AL.getId());
+        assertEquals(SubdivisionCode.US.AL, SubdivisionCode.byId(35274241));
+
+        Set<Integer> ids = new HashSet<>();
+        for (Subdivision subdivision : SubdivisionSet.allOf()) {
+            int id = subdivision.getId();
+            assertTrue(id >= 0 && id < (1 << 26));
+            assertTrue(ids.add(id), "Duplicate id for " + subdivision.getCode());
+            // Precomputed ids must match the ones derived from the code
+            assertEquals(SubdivisionKeys.idOf(subdivision.getCode()), id);
+            assertSame(subdivision, SubdivisionCode.byId(id));
+        }
+
+        assertNotEquals(SubdivisionCode.IT.IT_21.getId(), SubdivisionCode.IE.D.getId());
+        assertThrows(IllegalArgumentException.class, () -> SubdivisionCode.byId(-1));
+        assertThrows(IllegalArgumentException.class, () -> SubdivisionCode.byId(0));
+    }
+
+    @Test
+    public void testParseCode() {
+        assertEquals(SubdivisionCode.US.AL, SubdivisionCode.parseCode(new StringBuilder("us-al")));
+        assertEquals(SubdivisionCode.BR.AL, SubdivisionCode.parseCode(CharBuffer.wrap("AL")));
+        assertNull(SubdivisionCode.parseCode(new StringBuilder("US-XX")));
+        assertNull(SubdivisionCode.parseCode((CharSequence) null));
+
+        byte[] line = "1234,us-ny,NEW YORK\n".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(SubdivisionCode.US.NY, SubdivisionCode.parseCode(line, 5, 5));
+        assertNull(SubdivisionCode.parseCode(line, 5, 4));
+        assertNull(SubdivisionCode.parseCode("BR-SÃ".getBytes(StandardCharsets.UTF_8), 0, 6));
+        assertThrows(IndexOutOfBoundsException.class, () -> SubdivisionCode.parseCode(line, 18, 5));
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(line.length).put(line).flip();
+        assertEquals(SubdivisionCode.US.NY, SubdivisionCode.parseCode(direct, 5, 5));
+        assertEquals(0, direct.position());
+        assertEquals(SubdivisionCode.IT.IT_25, SubdivisionCode.parseCode(ByteBuffer.wrap("xIT-25".getBytes(StandardCharsets.US_ASCII)), 1, 5));
+    }
+
+    @Test
+    public void testCountryPrefixRouting() {
+        assertEquals("DE-BY", SubdivisionCode.parseCode(new StringBuilder("de-BY")).getCode());
+        assertEquals("DE-BY", SubdivisionCode.parseCode("DE-BY".getBytes(StandardCharsets.US_ASCII), 0, 5).getCode());
+        assertEquals("CH-ZH", SubdivisionCode.parseCode(ByteBuffer.wrap("ch-zh".getBytes(StandardCharsets.US_ASCII)), 0, 5).getCode());
+
+        // The prefix alone selects the country, so other countries' codes never match
+        assertNull(SubdivisionCode.parseCode("BR-WY"));
+        assertNull(SubdivisionCode.parseCode("QQ-AL"));
+        assertNull(SubdivisionCode.parseCode("U@-AL"));
+        assertNull(SubdivisionCode.parseCode("1S-AL"));
+        assertNull(SubdivisionCode.parseCode("ÜS-AL".getBytes(StandardCharsets.ISO_8859_1), 0, 5));
+        assertThrows(IllegalArgumentException.class, () -> SubdivisionCode.byId(SubdivisionCode.US.AL.getId() | 26 * 26 << 16));
+    }
+
+    @Test
+    public void testResolveAll() {
+        String[] codes = {"US-AL", "us-al", "XX-YY", null, "BR-SP", "SP", ""};
+        Subdivision[] out = new Subdivision[codes.length];
+        BitSet misses = SubdivisionCode.resolveAll(codes, out);
+
+        assertArrayEquals(new Subdivision[] {SubdivisionCode.US.AL, SubdivisionCode.US.AL, null, null,
+                SubdivisionCode.BR.SP, SubdivisionCode.BR.SP, null}, out);
+        assertEquals(BitSet.valueOf(new long[] {0b1001100}), misses);
+
+        Subdivision[] fromList = new Subdivision[3];
+        assertTrue(SubdivisionCode.resolveAll(List.of("IE-D", "IE-D", "IT-25"), fromList).isEmpty());
+        assertArrayEquals(new Subdivision[] {SubdivisionCode.IE.D, SubdivisionCode.IE.D, SubdivisionCode.IT.IT_25}, fromList);
+
+        assertThrows(IllegalArgumentException.class, () -> SubdivisionCode.resolveAll(codes, new Subdivision[2]));
+    }
+
+    @Test
+    public void testFindAll() {
+        String[] candidates = {"US-AL", "Sao Paulo", "dublin", "Atlantis", null, " ", "IT-25"};
+        String[] values = new String[50_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = candidates[i % candidates.length];
+        }
+        Subdivision[] out = new Subdivision[values.length];
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        int misses;
+        try {
+            misses = SubdivisionCode.findAll(values, out, pool);
+        } finally {
+            pool.shutdown();
+        }
 
-        Subdivision[] allCounties = SubdivisionCode.getCounties();
-        assertEquals(26, allCounties.length);
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(SubdivisionCode.find(values[i]).orElse(null), out[i]);
+        }
+        assertEquals(3 * (values.length / candidates.length) + 3, misses);
+        assertThrows(IllegalArgumentException.class, () -> SubdivisionCode.findAll(values, new Subdivision[1]));
     }
 }
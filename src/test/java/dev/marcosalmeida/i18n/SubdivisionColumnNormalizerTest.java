@@ -0,0 +1,80 @@
+package dev.marcosalmeida.i18n;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SubdivisionColumnNormalizerTest {
+
+    @Test
+    public void testNormalizeCsv() throws IOException {
+        String input = "id,region,city\n"
+                + "1,Sao Paulo,Campinas\n"
+                + "2,us-ny,\"New York, NY\"\n"
+                + "3,Atlantis,Nowhere\n"
+                + "4,\"Dublin\",\"He said \"\"hi\"\"\"\r\n"
+                + "5\n";
+        StringWriter out = new StringWriter();
+        StringWriter rejects = new StringWriter();
+
+        SubdivisionColumnNormalizer.Stats stats = new SubdivisionColumnNormalizer(',', 1, true)
+                .normalize(new StringReader(input), out, rejects);
+
+        assertEquals(5, stats.records());
+        assertEquals(2, stats.rejected());
+        assertEquals(3, stats.normalized());
+        assertEquals("id,region,city\n"
+                + "1,BR-SP,Campinas\n"
+                + "2,US-NY,\"New York, NY\"\n"
+                + "4,IE-D,\"He said \"\"hi\"\"\"\n", out.toString());
+        assertEquals("id,region,city\n"
+                + "3,Atlantis,Nowhere\n"
+                + "5\n", rejects.toString());
+    }
+
+    @Test
+    public void testNormalizeTsvWithCountryResolver() throws IOException {
+        String input = "CA\t10\nAL\t20\nSP\t30";
+        StringWriter out = new StringWriter();
+        StringWriter rejects = new StringWriter();
+
+        new SubdivisionColumnNormalizer('\t', 0, false, SubdivisionCode.US::find)
+                .normalize(new StringReader(input), out, rejects);
+
+        assertEquals("US-CA\t10\nUS-AL\t20\n", out.toString());
+        assertEquals("SP\t30\n", rejects.toString());
+    }
+
+    @Test
+    public void testNormalizeFiles(@TempDir Path dir) throws IOException {
+        Path input = dir.resolve("in.csv");
+        StringBuilder content = new StringBuilder("name;state\n");
+        for (int i = 0; i < 20_000; i++) {
+            content.append("customer ").append(i).append(';').append(i % 2 == 0 ? "Ciudad de México" : "??").append('\n');
+        }
+        Files.writeString(input, content, StandardCharsets.UTF_8);
+
+        SubdivisionColumnNormalizer.Stats stats = new SubdivisionColumnNormalizer(';', 1, true)
+                .normalize(input, dir.resolve("out.csv"), dir.resolve("rejects.csv"));
+
+        assertEquals(20_000, stats.records());
+        assertEquals(10_000, stats.rejected());
+        assertEquals(10_001, Files.readAllLines(dir.resolve("out.csv")).size());
+        assertEquals("customer 0;MX-CMX", Files.readAllLines(dir.resolve("out.csv")).get(1));
+        assertEquals("customer 1;??", Files.readAllLines(dir.resolve("rejects.csv")).get(1));
+    }
+
+    @Test
+    public void testUnterminatedQuote() {
+        SubdivisionColumnNormalizer normalizer = new SubdivisionColumnNormalizer(',', 0, false);
+        assertThrows(IOException.class, () -> normalizer.normalize(new StringReader("\"US-AL"), new StringWriter(), new StringWriter()));
+        assertThrows(IllegalArgumentException.class, () -> new SubdivisionColumnNormalizer('"', 0, false));
+        assertThrows(IllegalArgumentException.class, () -> new SubdivisionColumnNormalizer(',', -1, false));
+    }
+}
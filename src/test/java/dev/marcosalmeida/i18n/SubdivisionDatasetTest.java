@@ -0,0 +1,158 @@
+package dev.marcosalmeida.i18n;
+
+import com.neovisionaries.i18n.CountryCode;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SubdivisionDatasetTest {
+
+    @Test
+    public void testBundledCountries() {
+        Subdivision[] de = SubdivisionCode.getSubdivisions(CountryCode.DE);
+        assertNotNull(de);
+        assertEquals(16, de.length);
+
+        Subdivision bayern = de[3];
+        assertEquals("DE-BY", bayern.getCode());
+        assertEquals("BY", bayern.getSubdivisionCode());
+        assertEquals("Bayern", bayern.getSubdivisionName());
+        assertEquals("state", bayern.getCategory());
+        assertTrue(bayern.getParent().isEmpty());
+
+        // Countries are materialized once, so instances are canonical
+        assertSame(bayern, SubdivisionCode.getSubdivisions(CountryCode.DE)[3]);
+
+        assertEquals(24, SubdivisionCode.getSubdivisions(CountryCode.AR).length);
+        assertEquals(9, SubdivisionCode.getSubdivisions(CountryCode.AT).length);
+        assertEquals("Zürich", SubdivisionCode.getSubdivisions(CountryCode.CH)[25].getSubdivisionName());
+        assertNull(SubdivisionCode.getSubdivisions(CountryCode.AF));
+    }
+
+    @Test
+    public void testGlobalLookups() {
+        Subdivision bayern = SubdivisionCode.getSubdivisions(CountryCode.DE)[3];
+        assertSame(bayern, SubdivisionCode.fromCode("DE-BY"));
+        assertSame(bayern, SubdivisionCode.fromCode("de-by"));
+        assertSame(bayern, SubdivisionCode.byId(bayern.getId()));
+        assertSame(bayern, SubdivisionCode.find("DE-BY").orElseThrow());
+        assertEquals(List.of(bayern), SubdivisionCode.suggest(CountryCode.DE, "Bavaria", 5));
+        assertTrue(SubdivisionCode.tryFromCode("DE-XX").isEmpty());
+        assertTrue(SubdivisionCode.tryFromCode("AF-BAL").isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> SubdivisionCode.fromCode("QQ-AL"));
+    }
+
+    @Test
+    public void testRegistryCoversDatasetCountries() {
+        Subdivision bayern = SubdivisionCode.fromCode("DE-BY");
+        assertSame(bayern, SubdivisionCode.fromName("Bayern").orElseThrow());
+        assertSame(bayern, SubdivisionCode.find("Bayern").orElseThrow());
+        assertSame(bayern, SubdivisionCode.find("BY").orElseThrow());
+        assertEquals(List.of(new SubdivisionSpan(bayern, 0, 6), new SubdivisionSpan(bayern, 11, 16)),
+                SubdivisionCode.scan("Bayern and DE-BY"));
+        assertFalse(SubdivisionCode.getStates().contains(bayern));
+
+        SubdivisionSet set = SubdivisionSet.of(bayern, SubdivisionCode.US.AL);
+        assertTrue(set.contains(bayern));
+        assertEquals(2, set.size());
+        SubdivisionMap<String> zones = new SubdivisionMap<>();
+        zones.put(bayern, "south");
+        assertEquals("south", zones.get(SubdivisionCode.fromCode("de-by")));
+    }
+
+    @Test
+    public void testDatasetSubdivisionsAcrossTheApi() throws IOException {
+        Subdivision bayern = SubdivisionCode.fromCode("DE-BY");
+        Subdivision zurich = SubdivisionCode.fromCode("CH-ZH");
+
+        // Names, aliases, translations and approximate lookups
+        assertSame(bayern, SubdivisionCode.fromName("Bavaria").orElseThrow());
+        assertEquals("Bavière", bayern.getSubdivisionName(Locale.FRENCH));
+        assertSame(bayern, SubdivisionCode.fromName("Baviera", Locale.ITALIAN).orElseThrow());
+        assertTrue(SubdivisionCode.suggest("Bay", 5).contains(bayern));
+        assertSame(bayern, SubdivisionCode.findFuzzy("Bayren", 2).get(0).subdivision());
+        assertSame(zurich, SubdivisionCode.extract(CountryCode.CH, "Bahnhofstrasse 1, 8001 Zürich ZH")
+                .orElseThrow().subdivision());
+
+        // Hierarchy and ids
+        assertEquals(List.of(), bayern.getChildren());
+        assertEquals(List.of(), SubdivisionCode.getByParent(bayern));
+        assertSame(zurich, SubdivisionCode.byId(zurich.getId()));
+
+        // Ordinal-backed collections
+        SubdivisionIntMap counts = new SubdivisionIntMap();
+        counts.addTo(bayern, 2);
+        counts.addTo(SubdivisionCode.fromCode("de-by"), 3);
+        assertEquals(5, counts.get(bayern));
+        SubdivisionSet all = SubdivisionSet.allOf();
+        assertTrue(all.contains(bayern) && all.contains(zurich));
+        assertTrue(all.remove(zurich));
+        assertFalse(all.contains(zurich));
+        assertTrue(SubdivisionSet.of(zurich).intersects(SubdivisionSet.copyOf(List.of(zurich, bayern))));
+
+        // Batch resolution and column normalization
+        Subdivision[] out = new Subdivision[3];
+        assertEquals(0, SubdivisionCode.resolveAll(new String[] {"DE-BY", "ch-zh", "BY"}, out).cardinality());
+        assertArrayEquals(new Subdivision[] {bayern, zurich, bayern}, out);
+        assertEquals(0, SubdivisionCode.findAll(new String[] {"Bayern", "Zürich", "AT-9"}, out));
+        assertEquals("AT-9", out[2].getCode());
+        StringWriter normalized = new StringWriter();
+        new SubdivisionColumnNormalizer(',', 0, false).normalize(new StringReader("Zurich,1\n"), normalized, new StringWriter());
+        assertEquals("CH-ZH,1\n", normalized.toString());
+    }
+
+    @Test
+    public void testEnumCountriesTakePrecedence() {
+        // Subdivision code parts shared with a dataset country still resolve to the country enums
+        assertSame(SubdivisionCode.US.AR, SubdivisionCode.fromCode("AR"));
+        assertSame(SubdivisionCode.US.AR, SubdivisionCode.tryFromCode("ar").orElseThrow());
+        assertSame(SubdivisionCode.US.AR, SubdivisionCode.find("AR").orElseThrow());
+        assertSame(SubdivisionCode.US.NE, SubdivisionCode.fromCode("NE"));
+        assertSame(SubdivisionCode.US.NE, SubdivisionCode.find("NE").orElseThrow());
+        assertSame(SubdivisionCode.IE.D, SubdivisionCode.fromCode("D"));
+        assertSame(SubdivisionCode.IE.D, SubdivisionCode.find("D").orElseThrow());
+
+        // Their full codes still reach the dataset countries
+        assertEquals("Appenzell Ausserrhoden", SubdivisionCode.fromCode("CH-AR").getSubdivisionName());
+        assertEquals("CH-NE", SubdivisionCode.fromCode("CH-NE").getCode());
+        assertEquals("AR-D", SubdivisionCode.fromCode("AR-D").getCode());
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        byte[] encoded = SubdivisionDatasetWriter.write(List.of(
+                "# comment",
+                "FR-B\tBeta\tprovince\t",
+                "FR-B1\tBeta One\tdistrict\tFR-B",
+                "",
+                "IT-1\tÜber\tstate\t\tUeber|Uber",
+                "US-X\tSkipped\tstate"), Set.of("US"));
+        SubdivisionDataset dataset = new SubdivisionDataset(ByteBuffer.wrap(encoded));
+
+        Subdivision[] zz = dataset.subdivisions(CountryCode.FR);
+        assertEquals(2, zz.length);
+        assertEquals("FR-B1", zz[1].getCode());
+        assertEquals("B1", zz[1].getSubdivisionCode());
+        assertSame(zz[0], zz[1].getParent().orElseThrow());
+
+        assertEquals("Über", dataset.subdivisions(CountryCode.IT)[0].getSubdivisionName());
+        assertEquals(List.of("Ueber", "Uber"), dataset.subdivisions(CountryCode.IT)[0].getAliases());
+        assertEquals(List.of(), zz[0].getAliases());
+        assertNull(dataset.subdivisions(CountryCode.US));
+        assertNull(dataset.subdivisions(null));
+    }
+
+    @Test
+    public void testInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> SubdivisionDatasetWriter.write(List.of("FR-A\tA\tstate", "FR-A\tA\tstate"), Set.of()));
+        assertThrows(IllegalArgumentException.class, () -> SubdivisionDatasetWriter.write(List.of("FR-A\tA\tstate\tIT-A"), Set.of()));
+        assertThrows(IllegalArgumentException.class, () -> SubdivisionDatasetWriter.write(List.of("FRA\tA\tstate"), Set.of()));
+        assertThrows(IllegalStateException.class, () -> new SubdivisionDataset(ByteBuffer.wrap(new byte[16])));
+    }
+}
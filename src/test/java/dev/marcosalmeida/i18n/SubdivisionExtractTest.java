@@ -0,0 +1,42 @@
+package dev.marcosalmeida.i18n;
+
+import com.neovisionaries.i18n.CountryCode;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SubdivisionExtractTest {
+
+    @Test
+    public void testExtract() {
+        String line = "123 Main St, Springfield, IL 62704";
+        SubdivisionSpan span = SubdivisionCode.extract(CountryCode.US, line).orElseThrow();
+        assertEquals(SubdivisionCode.US.IL, span.subdivision());
+        assertEquals("IL", line.substring(span.start(), span.end()));
+
+        line = "1 Harbour View Rd, Charleston,   West  Virginia 25301";
+        span = SubdivisionCode.US.extract(line).orElseThrow();
+        assertEquals(SubdivisionCode.US.WV, span.subdivision());
+        assertEquals("West  Virginia", line.substring(span.start(), span.end()));
+
+        line = "Av. Paulista, 1000 - São Paulo - SP, 01310-100";
+        span = SubdivisionCode.BR.extract(line).orElseThrow();
+        assertEquals(SubdivisionCode.BR.SP, span.subdivision());
+        assertEquals(35, span.end());
+
+        assertEquals(SubdivisionCode.AU.QLD, SubdivisionCode.AU.extract("1 George St, Brisbane Queensland 4000").orElseThrow().subdivision());
+        assertEquals(SubdivisionCode.US.TX, SubdivisionCode.US.extract("Paris, TEXAS.").orElseThrow().subdivision());
+        assertEquals(SubdivisionCode.US.CA, SubdivisionCode.US.extract("Sacramento, Calif. 95814").orElseThrow().subdivision());
+        assertEquals(SubdivisionCode.CA.QC, SubdivisionCode.CA.extract("1 rue Sainte-Catherine, Montréal (Québec) H3B 1A7").orElseThrow().subdivision());
+        assertEquals(SubdivisionCode.IT.IT_25, SubdivisionCode.IT.extract("Via Roma 25, 20121 Milano MI, Lombardia").orElseThrow().subdivision());
+        assertEquals("Bayern", SubdivisionCode.extract(CountryCode.DE, "Marienplatz 1, 80331 München, Bayern").orElseThrow().subdivision().getSubdivisionName());
+        assertEquals(SubdivisionCode.US.NY, SubdivisionCode.US.extract("350 Fifth Avenue, US-NY").orElseThrow().subdivision());
+
+        // Lower-case words, house numbers and phrases across commas are not mistaken for subdivisions
+        assertTrue(SubdivisionCode.US.extract("Turn left in the alley, or call me").isEmpty());
+        assertTrue(SubdivisionCode.IT.extract("Via Roma 25, Milano").isEmpty());
+        assertEquals(SubdivisionCode.US.VA, SubdivisionCode.US.extract("12 West, Virginia Street").orElseThrow().subdivision());
+        assertTrue(SubdivisionCode.US.extract("").isEmpty());
+        assertTrue(SubdivisionCode.US.extract(null).isEmpty());
+        assertTrue(SubdivisionCode.extract(CountryCode.AF, "Kabul").isEmpty());
+    }
+}
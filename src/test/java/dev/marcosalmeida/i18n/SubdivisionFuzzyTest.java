@@ -0,0 +1,41 @@
+package dev.marcosalmeida.i18n;
+
+import com.neovisionaries.i18n.CountryCode;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SubdivisionFuzzyTest {
+
+    @Test
+    public void testFindFuzzy() {
+        assertEquals(List.of(new SubdivisionMatch(SubdivisionCode.US.CA, 1)), SubdivisionCode.findFuzzy("Califronia", 1));
+        assertEquals(SubdivisionCode.AU.QLD, SubdivisionCode.AU.findFuzzy("Queensand", 1).get(0).subdivision());
+        assertEquals(SubdivisionCode.BR.PE, SubdivisionCode.findFuzzy("Pernambuko", 2).get(0).subdivision());
+        assertEquals(SubdivisionCode.BR.SP, SubdivisionCode.findFuzzy("  SAO PAOLO ", 1).get(0).subdivision());
+        assertEquals(0, SubdivisionCode.findFuzzy("Texas", 0).get(0).distance());
+        assertEquals("Bayern", SubdivisionCode.findFuzzy(CountryCode.DE, "Bayren", 1).get(0).subdivision().getSubdivisionName());
+
+        // Closest first
+        List<SubdivisionMatch> matches = SubdivisionCode.US.findFuzzy("Virginia", 2);
+        assertEquals(SubdivisionCode.US.VA, matches.get(0).subdivision());
+        for (int i = 1; i < matches.size(); i++) {
+            assertTrue(matches.get(i - 1).distance() <= matches.get(i).distance());
+        }
+
+        assertTrue(SubdivisionCode.findFuzzy("Califronia", 0).isEmpty());
+        assertTrue(SubdivisionCode.findFuzzy("Xyzzy", 2).isEmpty());
+        assertTrue(SubdivisionCode.findFuzzy(null, 1).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> SubdivisionCode.findFuzzy("Texas", 3));
+        assertThrows(IllegalArgumentException.class, () -> SubdivisionCode.findFuzzy("Texas", -1));
+    }
+
+    @Test
+    public void testEditDistance() {
+        assertEquals(0, SubdivisionFuzzyIndex.distance("texas", "texas", 2));
+        assertEquals(1, SubdivisionFuzzyIndex.distance("califronia", "california", 2));
+        assertEquals(1, SubdivisionFuzzyIndex.distance("queensand", "queensland", 2));
+        assertEquals(3, SubdivisionFuzzyIndex.distance("ab", "ba c", 5));
+        assertEquals(3, SubdivisionFuzzyIndex.distance("alabama", "alaska", 2));
+    }
+}
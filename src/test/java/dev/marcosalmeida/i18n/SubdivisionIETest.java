@@ -1,5 +1,6 @@
 package dev.marcosalmeida.i18n;
 
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -80,24 +81,32 @@ public class SubdivisionIETest {
 
     @Test
     public void testFiltering() {
-        Subdivision[] provinces = SubdivisionCode.IE.getProvinces();
-        assertEquals(4, provinces.length);
+        List<Subdivision> provinces = SubdivisionCode.IE.getProvinces();
+        assertEquals(4, provinces.size());
 
-        Subdivision[] counties = SubdivisionCode.IE.getCounties();
-        assertEquals(26, counties.length);
+        List<Subdivision> counties = SubdivisionCode.IE.getCounties();
+        assertEquals(26, counties.size());
 
         Subdivision leinster = SubdivisionCode.IE.L;
-        Subdivision[] leinsterCounties = SubdivisionCode.IE.getByParent(leinster);
-        assertEquals(12, leinsterCounties.length);
+        List<Subdivision> leinsterCounties = SubdivisionCode.IE.getByParent(leinster);
+        assertEquals(12, leinsterCounties.size());
 
         // Verify one of the counties in Leinster
-        boolean hasDublin = false;
-        for (Subdivision s : leinsterCounties) {
-            if (s.equals(SubdivisionCode.IE.D)) {
-                hasDublin = true;
-                break;
-            }
-        }
-        assertTrue(hasDublin);
+        assertTrue(leinsterCounties.contains(SubdivisionCode.IE.D));
+    }
+
+    @Test
+    public void testChildren() {
+        Subdivision leinster = SubdivisionCode.IE.L;
+        assertEquals(SubdivisionCode.IE.getByParent(leinster), leinster.getChildren());
+        assertSame(SubdivisionCode.IE.getByParent(leinster), SubdivisionCode.IE.getByParent(leinster));
+        assertEquals(12, SubdivisionCode.getByParent(leinster).size());
+        assertEquals(List.of(SubdivisionCode.IE.CN, SubdivisionCode.IE.DL, SubdivisionCode.IE.MN),
+                SubdivisionCode.IE.U.getChildren());
+
+        assertTrue(SubdivisionCode.IE.D.getChildren().isEmpty());
+        assertTrue(SubdivisionCode.US.AL.getChildren().isEmpty());
+        assertTrue(SubdivisionCode.IE.getByParent(null).isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> leinster.getChildren().clear());
     }
 }
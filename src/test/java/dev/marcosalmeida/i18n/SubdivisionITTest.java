@@ -1,5 +1,6 @@
 package dev.marcosalmeida.i18n;
 
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -70,11 +71,11 @@ public class SubdivisionITTest {
 
     @Test
     public void testFiltering() {
-        Subdivision[] regions = SubdivisionCode.IT.getRegions();
-        assertEquals(15, regions.length);
+        List<Subdivision> regions = SubdivisionCode.IT.getRegions();
+        assertEquals(15, regions.size());
 
-        Subdivision[] autonomousRegions = SubdivisionCode.IT.getAutonomousRegions();
-        assertEquals(5, autonomousRegions.length);
+        List<Subdivision> autonomousRegions = SubdivisionCode.IT.getAutonomousRegions();
+        assertEquals(5, autonomousRegions.size());
     }
 
     @Test
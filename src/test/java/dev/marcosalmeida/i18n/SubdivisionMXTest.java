@@ -1,5 +1,6 @@
 package dev.marcosalmeida.i18n;
 
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -70,11 +71,11 @@ public class SubdivisionMXTest {
 
     @Test
     public void testFiltering() {
-        Subdivision[] states = SubdivisionCode.MX.getStates();
-        assertEquals(31, states.length);
+        List<Subdivision> states = SubdivisionCode.MX.getStates();
+        assertEquals(31, states.size());
 
-        Subdivision[] federalEntities = SubdivisionCode.MX.getFederalEntities();
-        assertEquals(1, federalEntities.length);
-        assertEquals(SubdivisionCode.MX.CMX, federalEntities[0]);
+        List<Subdivision> federalEntities = SubdivisionCode.MX.getFederalEntities();
+        assertEquals(1, federalEntities.size());
+        assertEquals(SubdivisionCode.MX.CMX, federalEntities.get(0));
     }
 }
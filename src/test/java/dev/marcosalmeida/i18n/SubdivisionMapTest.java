@@ -0,0 +1,94 @@
+package dev.marcosalmeida.i18n;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SubdivisionMapTest {
+
+    @Test
+    public void testPutGetRemove() {
+        SubdivisionMap<String> zones = new SubdivisionMap<>();
+        assertTrue(zones.isEmpty());
+
+        assertNull(zones.put(SubdivisionCode.US.CA, "west"));
+        assertEquals("west", zones.put(SubdivisionCode.US.CA, "pacific"));
+        assertNull(zones.put(SubdivisionCode.BR.SP, null));
+        assertEquals(2, zones.size());
+
+        assertEquals("pacific", zones.get(SubdivisionCode.US.CA));
+        assertTrue(zones.containsKey(SubdivisionCode.BR.SP));
+        assertNull(zones.get(SubdivisionCode.BR.SP));
+        assertFalse(zones.containsKey(SubdivisionCode.US.NY));
+        assertNull(zones.get("US-CA"));
+
+        assertEquals("pacific", zones.remove(SubdivisionCode.US.CA));
+        assertNull(zones.remove(SubdivisionCode.US.CA));
+        assertEquals(1, zones.size());
+    }
+
+    @Test
+    public void testIterationAndEquality() {
+        Map<Subdivision, Integer> source = new HashMap<>();
+        source.put(SubdivisionCode.US.WY, 1);
+        source.put(SubdivisionCode.AU.ACT, 2);
+        source.put(SubdivisionCode.IE.D, 3);
+
+        SubdivisionMap<Integer> map = new SubdivisionMap<>(source);
+        assertEquals(source, map);
+        assertEquals(map, source);
+        assertEquals(source.hashCode(), map.hashCode());
+
+        List<Subdivision> keys = new ArrayList<>(map.keySet());
+        assertEquals(List.of(SubdivisionCode.AU.ACT, SubdivisionCode.IE.D, SubdivisionCode.US.WY), keys);
+
+        Iterator<Map.Entry<Subdivision, Integer>> iterator = map.entrySet().iterator();
+        iterator.next().setValue(20);
+        iterator.next();
+        iterator.remove();
+        assertEquals(Map.of(SubdivisionCode.AU.ACT, 20, SubdivisionCode.US.WY, 1), map);
+    }
+
+    @Test
+    public void testPrimitiveMaps() {
+        SubdivisionIntMap counters = new SubdivisionIntMap();
+        assertEquals(1, counters.addTo(SubdivisionCode.US.CA, 1));
+        assertEquals(3, counters.addTo(SubdivisionCode.US.CA, 2));
+        assertEquals(0, counters.get(SubdivisionCode.US.NY));
+        assertEquals(-1, counters.getOrDefault(SubdivisionCode.US.NY, -1));
+        assertEquals(3, counters.remove(SubdivisionCode.US.CA));
+        assertFalse(counters.containsKey(SubdivisionCode.US.CA));
+        // A removed key starts again from zero
+        assertEquals(5, counters.addTo(SubdivisionCode.US.CA, 5));
+
+        SubdivisionLongMap totals = new SubdivisionLongMap();
+        assertEquals(0L, totals.put(SubdivisionCode.BR.SP, 10_000_000_000L));
+        assertEquals(10_000_000_000L, totals.put(SubdivisionCode.BR.SP, 1L));
+        assertEquals(1, totals.size());
+
+        SubdivisionDoubleMap taxRates = new SubdivisionDoubleMap();
+        taxRates.put(SubdivisionCode.US.WY, 0.04);
+        taxRates.put(SubdivisionCode.AU.NSW, 0.10);
+        assertEquals(0.04, taxRates.get(SubdivisionCode.US.WY));
+        assertEquals("{AU-NSW=0.1, US-WY=0.04}", taxRates.toString());
+
+        List<Subdivision> visited = new ArrayList<>();
+        taxRates.forEach((subdivision, rate) -> visited.add(subdivision));
+        assertEquals(List.of(SubdivisionCode.AU.NSW, SubdivisionCode.US.WY), visited);
+
+        taxRates.clear();
+        assertTrue(taxRates.isEmpty());
+        assertFalse(taxRates.containsKey(SubdivisionCode.US.WY));
+    }
+
+    @Test
+    public void testUnsupportedKey() {
+        assertThrows(IllegalArgumentException.class, () -> new SubdivisionMap<String>().put(null, "x"));
+        assertThrows(IllegalArgumentException.class, () -> new SubdivisionIntMap().addTo(null, 1));
+        assertFalse(new SubdivisionIntMap().containsKey(null));
+    }
+}
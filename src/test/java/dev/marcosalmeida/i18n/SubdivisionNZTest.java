@@ -1,5 +1,6 @@
 package dev.marcosalmeida.i18n;
 
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -70,11 +71,11 @@ public class SubdivisionNZTest {
 
     @Test
     public void testFiltering() {
-        Subdivision[] regions = SubdivisionCode.NZ.getRegions();
-        assertEquals(16, regions.length);
+        List<Subdivision> regions = SubdivisionCode.NZ.getRegions();
+        assertEquals(16, regions.size());
 
-        Subdivision[] specialIslandAuthorities = SubdivisionCode.NZ.getSpecialIslandAuthorities();
-        assertEquals(1, specialIslandAuthorities.length);
-        assertEquals(SubdivisionCode.NZ.CIT, specialIslandAuthorities[0]);
+        List<Subdivision> specialIslandAuthorities = SubdivisionCode.NZ.getSpecialIslandAuthorities();
+        assertEquals(1, specialIslandAuthorities.size());
+        assertEquals(SubdivisionCode.NZ.CIT, specialIslandAuthorities.get(0));
     }
 }
@@ -0,0 +1,76 @@
+package dev.marcosalmeida.i18n;
+
+import com.neovisionaries.i18n.CountryCode;
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SubdivisionNamesTest {
+
+    @Test
+    public void testLocalizedNames() {
+        assertEquals("Lombardy", SubdivisionCode.IT.IT_25.getSubdivisionName(Locale.ENGLISH));
+        assertEquals("Lombardie", SubdivisionCode.IT.IT_25.getSubdivisionName(Locale.CANADA_FRENCH));
+        assertEquals("Colombie-Britannique", SubdivisionCode.CA.BC.getSubdivisionName(Locale.FRENCH));
+        assertEquals("Nueva York", SubdivisionCode.US.NY.getSubdivisionName(Locale.forLanguageTag("es-MX")));
+        assertEquals("Città del Messico", SubdivisionCode.MX.CMX.getSubdivisionName(Locale.ITALY));
+
+        // Country-specific tables take precedence over the language table
+        assertEquals("Nova York", SubdivisionCode.US.NY.getSubdivisionName(Locale.forLanguageTag("pt-BR")));
+        assertEquals("Nova Iorque", SubdivisionCode.US.NY.getSubdivisionName(Locale.forLanguageTag("pt-PT")));
+        assertEquals("Califórnia", SubdivisionCode.US.CA.getSubdivisionName(Locale.forLanguageTag("pt-PT")));
+
+        // Untranslated names and locales fall back to the default name
+        assertEquals("Texas", SubdivisionCode.US.TX.getSubdivisionName(Locale.FRENCH));
+        assertEquals("São Paulo", SubdivisionCode.BR.SP.getSubdivisionName(Locale.forLanguageTag("pt-BR")));
+        assertEquals("Lombardia", SubdivisionCode.IT.IT_25.getSubdivisionName(Locale.JAPANESE));
+        assertEquals("Lombardia", SubdivisionCode.IT.IT_25.getSubdivisionName(Locale.ROOT));
+        assertEquals("Lombardia", SubdivisionCode.IT.IT_25.getSubdivisionName(null));
+
+        // Countries served from the bundled dataset are translated too
+        Subdivision bayern = SubdivisionCode.fromCode("DE-BY");
+        assertEquals("Bavière", bayern.getSubdivisionName(Locale.FRENCH));
+    }
+
+    @Test
+    public void testFromLocalizedName() {
+        assertEquals(SubdivisionCode.IT.IT_25, SubdivisionCode.fromName("Lombardie", Locale.FRENCH).orElseThrow());
+        assertEquals(SubdivisionCode.US.NY, SubdivisionCode.fromName("nova iorque", Locale.forLanguageTag("pt-PT")).orElseThrow());
+        assertEquals(SubdivisionCode.US.NY, SubdivisionCode.fromName("Nova York", Locale.forLanguageTag("pt-PT")).orElseThrow());
+        assertEquals(SubdivisionCode.CA.NL, SubdivisionCode.fromName("Terre-Neuve-et-Labrador", Locale.CANADA_FRENCH).orElseThrow());
+        assertSame(SubdivisionCode.getSubdivisions(CountryCode.DE)[3], SubdivisionCode.fromName("Baviera", Locale.ITALIAN).orElseThrow());
+
+        // Default names and aliases still resolve
+        assertEquals(SubdivisionCode.US.TX, SubdivisionCode.fromName("Texas", Locale.FRENCH).orElseThrow());
+        assertEquals(SubdivisionCode.US.CA, SubdivisionCode.fromName("Calif.", Locale.GERMAN).orElseThrow());
+
+        assertTrue(SubdivisionCode.fromName("Lombardie", Locale.ENGLISH).isEmpty());
+        assertTrue(SubdivisionCode.fromName(null, Locale.FRENCH).isEmpty());
+
+        // A null locale only searches the default names and aliases
+        assertEquals(SubdivisionCode.IT.IT_25, SubdivisionCode.fromName("Lombardia", null).orElseThrow());
+        assertEquals(SubdivisionCode.US.CA, SubdivisionCode.fromName("Calif.", null).orElseThrow());
+        assertTrue(SubdivisionCode.fromName("Lombardie", null).isEmpty());
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        byte[] encoded = SubdivisionNamesWriter.write(List.of(
+                "# comment",
+                "US-TX\tTéjas",
+                "",
+                "US-AL\tAlabamá"), Set.of("US-AL", "US-TX"));
+        SubdivisionNames names = SubdivisionNames.decode(encoded);
+        assertEquals("Téjas", names.get(SubdivisionKeys.idOf("US-TX")));
+        assertEquals("Alabamá", names.get(SubdivisionKeys.idOf("US-AL")));
+        assertNull(names.get(SubdivisionKeys.idOf("US-AK")));
+
+        assertThrows(IllegalArgumentException.class, () -> SubdivisionNamesWriter.write(List.of("US-XX\tX"), Set.of("US-AL")));
+        assertThrows(IllegalArgumentException.class, () -> SubdivisionNamesWriter.write(List.of("US-AL\tA", "US-AL\tB"), Set.of("US-AL")));
+        assertThrows(IllegalArgumentException.class, () -> SubdivisionNamesWriter.write(List.of("US-AL"), Set.of("US-AL")));
+        assertThrows(IllegalStateException.class, () -> SubdivisionNames.decode(new byte[12]));
+    }
+}
@@ -0,0 +1,108 @@
+package dev.marcosalmeida.i18n;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SubdivisionPerfectHashTest {
+
+    @Test
+    public void testEveryKeyGetsItsOwnSlot() {
+        int[] hashes = new int[1000];
+        for (int i = 0; i < hashes.length; i++) {
+            hashes[i] = ("XX-" + i).hashCode();
+        }
+        SubdivisionPerfectHash hash = SubdivisionPerfectHash.build(hashes);
+        assertNotNull(hash);
+        assertEquals(hashes.length, hash.size());
+
+        boolean[] seen = new boolean[hash.size()];
+        for (int h : hashes) {
+            int slot = hash.slot(h);
+            assertFalse(seen[slot], "Collision for " + h);
+            seen[slot] = true;
+        }
+
+        // Construction is deterministic, so the tables can be generated ahead of time
+        SubdivisionPerfectHash again = SubdivisionPerfectHash.build(hashes);
+        assertEquals(hash.seed(), again.seed());
+        assertArrayEquals(hash.displacements(), again.displacements());
+        SubdivisionPerfectHash restored = new SubdivisionPerfectHash(hash.seed(), hash.displacements(), hash.size());
+        assertEquals(hash.slot(hashes[42]), restored.slot(hashes[42]));
+    }
+
+    @Test
+    public void testEdgeCases() {
+        SubdivisionPerfectHash empty = SubdivisionPerfectHash.build(new int[0]);
+        assertEquals(1, empty.size());
+        assertEquals(0, empty.slot("US-AL".hashCode()));
+
+        // "Aa" and "BB" share a String hash code
+        assertNull(SubdivisionPerfectHash.build(new int[] {"Aa".hashCode(), "BB".hashCode()}));
+    }
+
+    @Test
+    public void testIndexLookupsAgreeAcrossInputForms() {
+        SubdivisionIndex<Subdivision> index = new SubdivisionIndex<>(SubdivisionSet.allOf().toArray(new Subdivision[0]));
+        for (Subdivision subdivision : SubdivisionSet.allOf()) {
+            String code = subdivision.getCode();
+            byte[] lower = code.toLowerCase().getBytes(StandardCharsets.US_ASCII);
+            assertSame(subdivision, index.getByCode(code));
+            assertSame(subdivision, index.getByCode(new StringBuilder(code)));
+            assertSame(subdivision, index.getByCode(code.toLowerCase()));
+            assertSame(subdivision, index.getByCode(lower, 0, lower.length));
+            assertSame(subdivision, index.getByCode(ByteBuffer.wrap(lower), 0, lower.length));
+        }
+        assertNull(index.getByCode("US-XX"));
+        assertNull(index.getByCode("us-xx"));
+        assertNull(new SubdivisionIndex<>(new Subdivision[0]).getByCode("US-AL"));
+    }
+
+    @Test
+    public void testMisses() {
+        SubdivisionIndex<SubdivisionCode.US> index = new SubdivisionIndex<>(SubdivisionCode.US.values());
+        // Lengths no code has, upper-case misses and misses that have to be folded
+        for (String code : new String[] {"", "U", "US-ALABAMA", "US-AL-", "US-A", "US-ZZ", "ZZ", "us-zz", "Zz"}) {
+            byte[] bytes = code.getBytes(StandardCharsets.US_ASCII);
+            assertNull(index.getByCode(code), code);
+            assertNull(index.getByCode(new StringBuilder(code)), code);
+            assertNull(index.getByCode(bytes, 0, bytes.length), code);
+            assertNull(index.getByCode(ByteBuffer.wrap(bytes), 0, bytes.length), code);
+        }
+        assertSame(SubdivisionCode.US.AL, index.getByCode("Us-aL"));
+    }
+
+    @Test
+    public void testKeysFoldLettersOnly() {
+        assertEquals(SubdivisionKeys.key("US-AZ", 5), SubdivisionKeys.key("us-az", 5));
+        assertEquals(SubdivisionKeys.key("K", 1), SubdivisionKeys.key("\u212A", 1));
+        // The neighbours of the letters are left alone
+        assertNotEquals(SubdivisionKeys.key("@", 1), SubdivisionKeys.key("`", 1));
+        assertNotEquals(SubdivisionKeys.key("[", 1), SubdivisionKeys.key("{", 1));
+        byte[] bytes = "GB-ABC".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(SubdivisionKeys.key("gb-abc", 6), SubdivisionKeys.key(bytes, 0, bytes.length));
+        assertEquals(SubdivisionKeys.key("gb-abc", 6), SubdivisionKeys.key(ByteBuffer.wrap(bytes), 0, bytes.length));
+        byte[] longer = "GB-ABCDEF".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(SubdivisionKeys.key("gb-abcdef", 9), SubdivisionKeys.key(longer, 0, longer.length));
+    }
+
+    @Test
+    public void testKeysOfDifferentLengthsNeverMatch() {
+        // Keys longer than a packed long only compare their first characters by bits
+        assertFalse(SubdivisionKeys.equalsIgnoreCase("abcdefghij", "ABCDEFGHIJK", 11));
+        assertFalse(SubdivisionKeys.equalsIgnoreCase("abcdefghijk", "ABCDEFGHIJ", 10));
+        assertTrue(SubdivisionKeys.equalsIgnoreCase("abcdefghijk", "ABCDEFGHIJK", 11));
+    }
+
+    @Test
+    public void testPrecomputedTablesMustMatch() {
+        SubdivisionCode.US[] values = SubdivisionCode.US.values();
+        SubdivisionPerfectHash other = SubdivisionPerfectHash.build(new int[] {1, 2, 3});
+        assertThrows(IllegalStateException.class, () -> new SubdivisionIndex<>(values, other));
+
+        // Tables searched for at runtime can be handed back in, as the generated enums do
+        SubdivisionIndex<SubdivisionCode.US> index = new SubdivisionIndex<>(values);
+        assertSame(SubdivisionCode.US.AL, index.getByCode("al"));
+    }
+}
@@ -0,0 +1,45 @@
+package dev.marcosalmeida.i18n;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SubdivisionScanTest {
+
+    @Test
+    public void testScan() throws IOException {
+        String text = "Shipped from Springfield, Illinois to NOVA  SCOTIA; see US-CA, Mainers and West\nVirginia.";
+        List<SubdivisionSpan> mentions = SubdivisionCode.scan(text);
+        assertEquals(List.of(SubdivisionCode.US.IL, SubdivisionCode.CA.NS, SubdivisionCode.US.CA, SubdivisionCode.US.WV),
+                mentions.stream().map(SubdivisionSpan::subdivision).toList());
+        assertEquals("NOVA  SCOTIA", text.substring(mentions.get(1).start(), mentions.get(1).end()));
+        assertEquals("US-CA", text.substring(mentions.get(2).start(), mentions.get(2).end()));
+        assertEquals("West\nVirginia", text.substring(mentions.get(3).start(), mentions.get(3).end()));
+
+        // Diacritics are ignored on both sides, including decomposed ones
+        assertEquals(SubdivisionCode.BR.SP, SubdivisionCode.scan("Sao Paulo").get(0).subdivision());
+        SubdivisionSpan decomposed = SubdivisionCode.scan("in Que\u0301bec!").get(0);
+        assertEquals(SubdivisionCode.CA.QC, decomposed.subdivision());
+        assertEquals(3, decomposed.start());
+        assertEquals(10, decomposed.end());
+
+        assertTrue(SubdivisionCode.scan("Texans in Maineville").isEmpty());
+        assertTrue(SubdivisionCode.scan((CharSequence) null).isEmpty());
+
+        // Streams longer than the read buffer are scanned in one pass
+        StringBuilder log = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            log.append("order ").append(i).append(" shipped to Texas\n");
+        }
+        List<long[]> hits = new ArrayList<>();
+        SubdivisionCode.scan(new StringReader(log.toString()), (subdivision, start, end) -> {
+            assertEquals(SubdivisionCode.US.TX, subdivision);
+            hits.add(new long[] {start, end});
+        });
+        assertEquals(5000, hits.size());
+        assertEquals("Texas", log.substring((int) hits.get(4999)[0], (int) hits.get(4999)[1]));
+    }
+}
@@ -0,0 +1,111 @@
+package dev.marcosalmeida.i18n;
+
+import com.neovisionaries.i18n.CountryCode;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SubdivisionSetTest {
+
+    @Test
+    public void testAddContainsRemove() {
+        SubdivisionSet set = SubdivisionSet.noneOf();
+        assertTrue(set.isEmpty());
+
+        assertTrue(set.add(SubdivisionCode.US.AL));
+        assertFalse(set.add(SubdivisionCode.US.AL));
+        assertTrue(set.add(SubdivisionCode.BR.AL));
+        assertEquals(2, set.size());
+
+        assertTrue(set.contains(SubdivisionCode.US.AL));
+        assertTrue(set.contains(SubdivisionCode.BR.AL));
+        assertFalse(set.contains(SubdivisionCode.US.AK));
+        assertFalse(set.contains("US-AL"));
+
+        assertTrue(set.remove(SubdivisionCode.US.AL));
+        assertFalse(set.remove(SubdivisionCode.US.AL));
+        assertEquals(1, set.size());
+        assertFalse(set.contains(SubdivisionCode.US.AL));
+    }
+
+    @Test
+    public void testAllOf() {
+        SubdivisionSet all = SubdivisionSet.allOf();
+        int expected = 0;
+        // Enum and dataset countries share the ordinal space
+        for (CountryCode country : List.of(CountryCode.AR, CountryCode.AT, CountryCode.AU, CountryCode.BR,
+                CountryCode.CA, CountryCode.CH, CountryCode.DE, CountryCode.IE, CountryCode.IT, CountryCode.MX,
+                CountryCode.NZ, CountryCode.US)) {
+            for (Subdivision subdivision : SubdivisionCode.getSubdivisions(country)) {
+                assertTrue(all.contains(subdivision));
+                expected++;
+            }
+        }
+        assertEquals(expected, all.size());
+        assertEquals(expected, new HashSet<>(all).size());
+    }
+
+    @Test
+    public void testSetAlgebra() {
+        SubdivisionSet shipping = SubdivisionSet.of(SubdivisionCode.US.CA, SubdivisionCode.US.NY, SubdivisionCode.CA.ON);
+        SubdivisionSet taxExempt = SubdivisionSet.of(SubdivisionCode.US.NY, SubdivisionCode.US.OR);
+
+        assertEquals(Set.of(SubdivisionCode.US.CA, SubdivisionCode.US.NY, SubdivisionCode.CA.ON, SubdivisionCode.US.OR),
+                shipping.union(taxExempt));
+        assertEquals(Set.of(SubdivisionCode.US.NY), shipping.intersection(taxExempt));
+        assertTrue(shipping.intersects(taxExempt));
+        assertFalse(shipping.intersects(SubdivisionSet.of(SubdivisionCode.IE.D)));
+
+        // The operands are left untouched
+        assertEquals(3, shipping.size());
+        assertEquals(2, taxExempt.size());
+
+        SubdivisionSet copy = SubdivisionSet.copyOf(shipping);
+        assertTrue(copy.removeAll(taxExempt));
+        assertEquals(Set.of(SubdivisionCode.US.CA, SubdivisionCode.CA.ON), copy);
+        assertTrue(shipping.containsAll(copy));
+        assertFalse(copy.containsAll(shipping));
+    }
+
+    @Test
+    public void testIterationAndEquality() {
+        SubdivisionSet set = SubdivisionSet.copyOf(List.of(SubdivisionCode.US.WY, SubdivisionCode.AU.ACT, SubdivisionCode.IE.D));
+        Iterator<Subdivision> iterator = set.iterator();
+        assertEquals(SubdivisionCode.AU.ACT, iterator.next());
+        assertEquals(SubdivisionCode.IE.D, iterator.next());
+        iterator.remove();
+        assertEquals(SubdivisionCode.US.WY, iterator.next());
+        assertFalse(iterator.hasNext());
+
+        Set<Subdivision> hashSet = Set.of(SubdivisionCode.AU.ACT, SubdivisionCode.US.WY);
+        assertEquals(hashSet, set);
+        assertEquals(set, hashSet);
+        assertEquals(hashSet.hashCode(), set.hashCode());
+    }
+
+    @Test
+    public void testUnsupportedSubdivision() {
+        Subdivision custom = new Subdivision() {
+            @Override
+            public String getCode() {
+                return "XX-YY";
+            }
+
+            @Override
+            public String getSubdivisionName() {
+                return "Nowhere";
+            }
+
+            @Override
+            public String getCategory() {
+                return "state";
+            }
+        };
+        SubdivisionSet set = SubdivisionSet.noneOf();
+        assertThrows(IllegalArgumentException.class, () -> set.add(custom));
+        assertFalse(set.contains(custom));
+    }
+}
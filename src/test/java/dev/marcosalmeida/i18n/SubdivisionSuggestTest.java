@@ -0,0 +1,34 @@
+package dev.marcosalmeida.i18n;
+
+import com.neovisionaries.i18n.CountryCode;
+import java.util.HashSet;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SubdivisionSuggestTest {
+
+    @Test
+    public void testSuggest() {
+        List<Subdivision> news = SubdivisionCode.US.suggest("new", 10);
+        assertEquals(4, news.size());
+        assertEquals(SubdivisionCode.US.NY, news.get(0));
+        assertTrue(news.containsAll(List.of(SubdivisionCode.US.NH, SubdivisionCode.US.NJ, SubdivisionCode.US.NM)));
+        assertEquals(List.of(SubdivisionCode.US.NY, SubdivisionCode.US.NJ), SubdivisionCode.US.suggest(" NEW ", 2));
+
+        // Exact code matches rank first, and each subdivision is suggested once
+        List<Subdivision> ca = SubdivisionCode.US.suggest("ca", 5);
+        assertEquals(SubdivisionCode.US.CA, ca.get(0));
+        assertEquals(ca.size(), new HashSet<>(ca).size());
+        assertEquals(SubdivisionCode.CA.ON, SubdivisionCode.suggest("ca-o", 1).get(0));
+
+        assertTrue(SubdivisionCode.suggest("SÃO", 5).contains(SubdivisionCode.BR.SP));
+        assertEquals("Bayern", SubdivisionCode.suggest(CountryCode.DE, "bay", 5).get(0).getSubdivisionName());
+        assertTrue(SubdivisionCode.suggest("zzz", 5).isEmpty());
+        assertTrue(SubdivisionCode.suggest("", 5).isEmpty());
+        assertTrue(SubdivisionCode.suggest(null, 5).isEmpty());
+        assertTrue(SubdivisionCode.suggest("new", 0).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> SubdivisionCode.suggest("new", -1));
+        assertThrows(UnsupportedOperationException.class, () -> news.add(SubdivisionCode.US.AL));
+    }
+}
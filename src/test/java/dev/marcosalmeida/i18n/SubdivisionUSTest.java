@@ -1,5 +1,6 @@
 package dev.marcosalmeida.i18n;
 
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -66,15 +67,15 @@ public class SubdivisionUSTest {
 
     @Test
     public void testFiltering() {
-        Subdivision[] states = SubdivisionCode.US.getStates();
-        assertEquals(50, states.length);
+        List<Subdivision> states = SubdivisionCode.US.getStates();
+        assertEquals(50, states.size());
 
-        Subdivision[] districts = SubdivisionCode.US.getDistricts();
-        assertEquals(1, districts.length);
-        assertEquals(SubdivisionCode.US.DC, districts[0]);
+        List<Subdivision> districts = SubdivisionCode.US.getDistricts();
+        assertEquals(1, districts.size());
+        assertEquals(SubdivisionCode.US.DC, districts.get(0));
 
-        Subdivision[] outlyingAreas = SubdivisionCode.US.getOutlyingAreas();
-        assertEquals(6, outlyingAreas.length);
+        List<Subdivision> outlyingAreas = SubdivisionCode.US.getOutlyingAreas();
+        assertEquals(6, outlyingAreas.size());
     }
 
     @Test